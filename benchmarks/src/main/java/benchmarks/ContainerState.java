@@ -0,0 +1,21 @@
+package benchmarks;
+
+import core.ApplicationContext;
+import core.container.DIContainer;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A context over the beans in {@code benchmarks.fixture}, shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class ContainerState {
+
+    ApplicationContext context;
+
+    @Setup
+    public void start() throws Exception {
+        context = new ApplicationContext(new DIContainer("benchmarks.fixture"));
+    }
+}
@@ -0,0 +1,38 @@
+package benchmarks;
+
+import benchmarks.fixture.PrototypeService;
+import benchmarks.fixture.SingletonService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same lookups as {@link GetBeanBenchmark}, issued by as many threads as there are
+ * processors against one shared context. A score that degrades compared to the single-threaded
+ * run points at shared state on the lookup path.
+ */
+@Fork(2)
+@Threads(Threads.MAX)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentionBenchmark {
+
+    @Benchmark
+    public Object singletonGetBean(ContainerState state) {
+        return state.context.getObject(SingletonService.class);
+    }
+
+    @Benchmark
+    public Object prototypeCreation(ContainerState state) {
+        return state.context.getObject(PrototypeService.class);
+    }
+}
@@ -0,0 +1,37 @@
+package benchmarks;
+
+import benchmarks.fixture.PrototypeService;
+import benchmarks.fixture.SingletonService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded lookup costs: the latency of fetching an existing singleton, and the
+ * throughput of creating a prototype with three injected fields.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GetBeanBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object singletonGetBean(ContainerState state) {
+        return state.context.getObject(SingletonService.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object prototypeCreation(ContainerState state) {
+        return state.context.getObject(PrototypeService.class);
+    }
+}
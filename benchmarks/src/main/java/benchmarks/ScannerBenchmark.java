@@ -0,0 +1,85 @@
+package benchmarks;
+
+import core.annotations.Component;
+import core.annotations.Configuration;
+import core.scanner.ClassPathScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.Reflections;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classpath scanning of a generated package in which one class in four is a bean, comparing
+ * {@link ClassPathScanner} with the Reflections-based scanner it replaced.
+ *
+ * As in {@link StartupBenchmark}, every invocation uses a fresh class loader, so the cost of
+ * loading classes, which the classfile scanner avoids for non-beans, is included.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ScannerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int classCount;
+
+    private String packageName;
+    private URL classes;
+    private URLClassLoader loader;
+
+    @Setup(Level.Trial)
+    public void generate() throws MalformedURLException {
+        packageName = "scan.g" + classCount;
+        int beans = classCount / 4;
+        Path compiled = SyntheticGraph.compile(packageName, beans, classCount - beans, 7L);
+        classes = compiled.toUri().toURL();
+    }
+
+    @Setup(Level.Invocation)
+    public void freshClassLoader() {
+        loader = new URLClassLoader(new URL[]{classes}, ScannerBenchmark.class.getClassLoader());
+        Thread.currentThread().setContextClassLoader(loader);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClassLoader() throws IOException {
+        Thread.currentThread().setContextClassLoader(ScannerBenchmark.class.getClassLoader());
+        loader.close();
+    }
+
+    @Benchmark
+    public Set<Class<?>> classFileScanner() {
+        return new ClassPathScanner(loader, List.of(), List.of()).scan(packageName);
+    }
+
+    @Benchmark
+    public Set<Class<?>> reflectionsScanner() {
+        Reflections reflections = new Reflections(packageName);
+        Set<Class<?>> result = new HashSet<>(reflections.getTypesAnnotatedWith(Component.class));
+        result.addAll(reflections.getTypesAnnotatedWith(Configuration.class));
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import core.container.DIContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to start a container over a generated graph of {@link SyntheticGraph} beans: scanning,
+ * registration, graph validation, planning and pre-instantiation of every singleton.
+ *
+ * The graph is compiled once per trial. Each invocation loads it through a fresh class loader,
+ * so class loading and initialization of the bean classes are part of every measurement, as
+ * they are in a real start.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int beanCount;
+
+    private String packageName;
+    private URL classes;
+    private URLClassLoader loader;
+
+    @Setup(Level.Trial)
+    public void generate() throws MalformedURLException {
+        packageName = "synthetic.g" + beanCount;
+        Path compiled = SyntheticGraph.compile(packageName, beanCount, 42L);
+        classes = compiled.toUri().toURL();
+    }
+
+    @Setup(Level.Invocation)
+    public void freshClassLoader() {
+        loader = new URLClassLoader(new URL[]{classes}, StartupBenchmark.class.getClassLoader());
+        // Classpath scanning discovers the generated package through the context class loader
+        Thread.currentThread().setContextClassLoader(loader);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClassLoader() throws IOException {
+        Thread.currentThread().setContextClassLoader(StartupBenchmark.class.getClassLoader());
+        loader.close();
+    }
+
+    @Benchmark
+    public DIContainer startup() throws Exception {
+        return new DIContainer(packageName);
+    }
+}
@@ -0,0 +1,147 @@
+package benchmarks;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates and compiles a package of interdependent components for startup benchmarks.
+ *
+ * Bean {@code i} only depends on beans with a lower index, so the graph is acyclic. Fan-out
+ * follows a skewed distribution similar to real applications: most beans have zero to three
+ * dependencies, every tenth bean is a service with up to eight, and dependencies favour
+ * recently declared beans while a few low-index "infrastructure" beans are shared by many.
+ * A quarter of the dependencies are constructor parameters, the rest {@code @Inject} fields.
+ * Optionally, plain classes without any container annotation are generated alongside the beans,
+ * as found in any real package. The same sizes and seed always produce the same graph.
+ */
+final class SyntheticGraph {
+
+    private SyntheticGraph() {
+    }
+
+    /**
+     * @param packageName package of the generated beans
+     * @param beanCount   number of beans to generate
+     * @param seed        seed of the dependency layout
+     * @return directory holding the compiled classes
+     */
+    static Path compile(String packageName, int beanCount, long seed) {
+        return compile(packageName, beanCount, 0, seed);
+    }
+
+    /**
+     * @param packageName package of the generated classes
+     * @param beanCount   number of beans to generate
+     * @param plainCount  number of classes without container annotations to generate
+     * @param seed        seed of the dependency layout
+     * @return directory holding the compiled classes
+     */
+    static Path compile(String packageName, int beanCount, int plainCount, long seed) {
+        try {
+            Path root = Files.createTempDirectory("synthetic-graph");
+            Path sources = Files.createDirectories(root.resolve("src").resolve(packageName.replace('.', '/')));
+            Path classes = Files.createDirectories(root.resolve("classes"));
+
+            Random random = new Random(seed);
+            List<Path> files = new ArrayList<>(beanCount);
+            for (int i = 0; i < beanCount; i++) {
+                Path file = sources.resolve("Bean" + i + ".java");
+                Files.writeString(file, source(packageName, i, dependencies(i, random)));
+                files.add(file);
+            }
+            for (int i = 0; i < plainCount; i++) {
+                Path file = sources.resolve("Plain" + i + ".java");
+                Files.writeString(file, plainSource(packageName, i));
+                files.add(file);
+            }
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+                List<String> options = List.of("-proc:none", "-classpath", System.getProperty("java.class.path"),
+                        "-d", classes.toString());
+                boolean compiled = compiler.getTask(null, fileManager, null, options, null,
+                        fileManager.getJavaFileObjectsFromPaths(files)).call();
+                if (!compiled) {
+                    throw new IllegalStateException("Failed to compile synthetic graph in " + root);
+                }
+            }
+            return classes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int[] dependencies(int index, Random random) {
+        int fanOut = index % 10 == 0 ? 4 + random.nextInt(5) : random.nextInt(4);
+        fanOut = Math.min(fanOut, index);
+
+        int[] targets = new int[fanOut];
+        int count = 0;
+        while (count < fanOut) {
+            // One in five edges points at shared infrastructure, the others at nearby beans
+            int target = random.nextInt(5) == 0
+                    ? random.nextInt(Math.min(index, 10))
+                    : Math.max(0, index - 1 - (int) Math.abs(random.nextGaussian() * 20));
+            if (!contains(targets, count, target)) {
+                targets[count++] = target;
+            }
+        }
+        return targets;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String plainSource(String packageName, int index) {
+        return "package " + packageName + ";\n\n"
+                + "public class Plain" + index + " {\n"
+                + "    private final String name = \"plain" + index + "\";\n\n"
+                + "    @Override\n"
+                + "    public String toString() {\n"
+                + "        return name;\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private static String source(String packageName, int index, int[] dependencies) {
+        int constructorArgs = dependencies.length / 4;
+
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n")
+                .append("import core.annotations.Component;\n")
+                .append("import core.annotations.Inject;\n\n")
+                .append("@Component\n")
+                .append("public class Bean").append(index).append(" {\n");
+
+        for (int i = constructorArgs; i < dependencies.length; i++) {
+            source.append("    @Inject Bean").append(dependencies[i]).append(" field").append(i).append(";\n");
+        }
+        for (int i = 0; i < constructorArgs; i++) {
+            source.append("    final Bean").append(dependencies[i]).append(" arg").append(i).append(";\n");
+        }
+
+        source.append("\n    @Inject\n    public Bean").append(index).append("(");
+        for (int i = 0; i < constructorArgs; i++) {
+            source.append(i > 0 ? ", " : "").append("Bean").append(dependencies[i]).append(" arg").append(i);
+        }
+        source.append(") {\n");
+        for (int i = 0; i < constructorArgs; i++) {
+            source.append("        this.arg").append(i).append(" = arg").append(i).append(";\n");
+        }
+        return source.append("    }\n}\n").toString();
+    }
+}
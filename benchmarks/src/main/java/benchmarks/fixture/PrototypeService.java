@@ -0,0 +1,19 @@
+package benchmarks.fixture;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class PrototypeService {
+    @Inject
+    Repository repository;
+
+    @Inject
+    Clock clock;
+
+    @Inject
+    SingletonService singletonService;
+}
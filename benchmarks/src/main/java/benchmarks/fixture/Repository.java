@@ -0,0 +1,7 @@
+package benchmarks.fixture;
+
+import core.annotations.Component;
+
+@Component
+public class Repository {
+}
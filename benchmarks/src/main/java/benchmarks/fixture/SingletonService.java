@@ -0,0 +1,10 @@
+package benchmarks.fixture;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+
+@Component
+public class SingletonService {
+    @Inject
+    Repository repository;
+}
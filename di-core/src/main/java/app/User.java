@@ -0,0 +1,7 @@
+package app;
+
+/**
+ * Created by {@link SecurityConfig#user()}, so it is not a component itself.
+ */
+public class User {
+}
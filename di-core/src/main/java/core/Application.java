@@ -11,4 +11,8 @@ public class Application {
         ApplicationContext context = new ApplicationContext(container);
         return context;
     }
+
+    public static ApplicationContext run(String packageToScan, ApplicationContext parent) throws Exception {
+        return parent.createChild(packageToScan);
+    }
 }
@@ -0,0 +1,121 @@
+package core;
+
+import core.annotations.Bean;
+import core.annotations.Configuration;
+import core.container.*;
+import core.scanner.ClassPathScanner;
+import core.scope.BeanPool;
+import core.scope.BeanScope;
+import core.scope.PooledBean;
+
+import java.util.Optional;
+import java.util.Set;
+
+public class ApplicationContext implements AutoCloseable {
+
+    private final DIContainer container;
+
+    public ApplicationContext(DIContainer container) throws Exception {
+        this.container = container;
+    }
+
+    /**
+     * Creates a child context for the given package. The child defines only the beans of that
+     * package its ancestors do not, and resolves everything else through this context, sharing
+     * its singletons.
+     */
+    public ApplicationContext createChild(String packageToScan) throws Exception {
+        return new ApplicationContext(new DIContainer(packageToScan, container));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Object getObject(Class<T> cls) {
+        return container.getBean(cls);
+    }
+
+    /**
+     * Returns the bean registered under the given name, that is the value of its
+     * {@code @Qualifier}, for types that have several beans.
+     *
+     * @throws RuntimeException if no bean has this name or it is not assignable to the type
+     */
+    public <T> T getBean(String name, Class<T> cls) {
+        return container.getBean(name, cls);
+    }
+
+    /**
+     * Returns a property of this context's property source. A key resolves to its value in the
+     * first layer that defines it: system properties, then environment variables, then the file
+     * named by the {@code di.config} system property, then the {@code application.properties}
+     * classpath resource.
+     */
+    public Optional<String> getProperty(String key) {
+        return container.getProperties().getProperty(key);
+    }
+
+    /**
+     * Borrows an instance of a POOLED bean. Closing the returned handle, typically through
+     * try-with-resources, returns the instance to the pool.
+     */
+    public <T> PooledBean<T> borrow(Class<T> cls) {
+        return container.getPool(cls).borrowHandle();
+    }
+
+    /**
+     * Returns the startup and per-bean metrics of this context. Metrics are only collected when
+     * the {@value ContainerMetrics#ENABLED_PROPERTY} property is {@code true} at startup;
+     * otherwise the result is empty.
+     */
+    public Optional<ContainerMetrics> getMetrics() {
+        return container.getMetrics();
+    }
+
+    /**
+     * Returns the lookup and creation statistics of the bean the given type resolves to, if
+     * metrics are enabled and the bean has been used.
+     */
+    public Optional<BeanMetrics> getBeanMetrics(Class<?> cls) {
+        return container.getBeanMetrics(cls);
+    }
+
+    /**
+     * Registers a custom scope under the given name. Beans declared with
+     * {@code @Scope(name = ...)} store their instances in it from the next lookup on.
+     */
+    public void registerScope(String name, BeanScope scope) {
+        container.registerScope(name, scope);
+    }
+
+    /**
+     * Ends the calling thread's THREAD scope, running the {@code @PreDestroy} callbacks of its
+     * instances. Threads reused across tasks should call this when a task completes.
+     */
+    public void endThreadScope() {
+        container.endThreadScope();
+    }
+
+    /**
+     * Destroys the beans of this context, running their {@code @PreDestroy} callbacks. Dependents
+     * are destroyed before their dependencies and independent singletons in parallel, each within
+     * the {@value DIContainer#SHUTDOWN_TIMEOUT_PROPERTY} timeout. Child contexts should be closed
+     * before their parent.
+     */
+    @Override
+    public void close() {
+        container.close();
+    }
+
+    /**
+     * Closes this context when the JVM shuts down, unless it has been closed explicitly by then.
+     */
+    public void registerShutdownHook() {
+        container.registerShutdownHook();
+    }
+
+    /**
+     * Returns the object pool of a POOLED bean, for explicit borrow/release and pool metrics.
+     */
+    public <T> BeanPool<T> getPool(Class<T> cls) {
+        return container.getPool(cls);
+    }
+}
@@ -0,0 +1,24 @@
+package core.annotations;
+
+import core.condition.Condition;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers a component, configuration or {@code @Bean} method only when every given
+ * {@link Condition} matches. Condition classes need a public no-argument constructor and are
+ * instantiated once per container.
+ *
+ * Retention: Runtime - the annotation metadata is retained and accessible during runtime
+ * for reflection-based processing by the dependency injection framework.
+ *
+ * Target: Applicable to classes and to {@code @Bean} methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Conditional {
+    Class<? extends Condition>[] value();
+}
@@ -0,0 +1,24 @@
+package core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers a component, configuration or {@code @Bean} method only when all of the given
+ * classes can be loaded. The classes are named as strings, so that the annotation itself can
+ * be read when they are missing.
+ *
+ * Retention: Runtime - the annotation metadata is retained and accessible during runtime
+ * for reflection-based processing by the dependency injection framework.
+ *
+ * Target: Applicable to classes and to {@code @Bean} methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConditionalOnClass {
+
+    /** Fully qualified binary names of the required classes. */
+    String[] value();
+}
@@ -0,0 +1,31 @@
+package core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers a component, configuration or {@code @Bean} method only when a property has a
+ * given value.
+ *
+ * Without {@code havingValue}, the property matches when it is set to anything other than
+ * {@code false}. A missing property matches only if {@code matchIfMissing} is true.
+ *
+ * Retention: Runtime - the annotation metadata is retained and accessible during runtime
+ * for reflection-based processing by the dependency injection framework.
+ *
+ * Target: Applicable to classes and to {@code @Bean} methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConditionalOnProperty {
+
+    /** Name of the property. */
+    String name();
+
+    /** Expected value, compared ignoring case; empty for any value other than {@code false}. */
+    String havingValue() default "";
+
+    boolean matchIfMissing() default false;
+}
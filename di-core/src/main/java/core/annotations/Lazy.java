@@ -19,6 +19,13 @@ import java.lang.annotation.Target;
  * - Classes: When applied at the class level, the entire component is lazily initialized.
  * - Methods: When applied to a method annotated with {@link Bean}, the returned bean
  *   instance is lazily initialized.
+ * - Fields and constructor parameters: When applied to an {@link Inject} injection point,
+ *   a lightweight proxy is injected instead of the bean. A singleton is resolved on the first
+ *   method call through the proxy, and every later call is forwarded to it directly; a bean of
+ *   any other scope is resolved again on every call, so it never outlives its scope. Lazy
+ *   injection points do not count as dependencies when ordering startup; combined with
+ *   {@code @Lazy} on the injected bean itself, this keeps the bean out of the startup path
+ *   entirely. The injected type must be an interface.
  *
  * Usage of {@code @Lazy} is often combined with annotations like {@link Component},
  * {@link Configuration}, or {@link Scope} to control the lifecycle and initialization
@@ -27,8 +34,8 @@ import java.lang.annotation.Target;
  * Retention: Runtime - the annotation metadata is retained in the class file and available
  * during runtime for reflective processing by the dependency injection framework.
  *
- * Target: Applicable to class-level elements and methods.
+ * Target: Applicable to class-level elements, methods, fields and parameters.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target({ElementType.TYPE, ElementType.METHOD})
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
 public @interface Lazy {}
\ No newline at end of file
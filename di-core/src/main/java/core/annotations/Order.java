@@ -0,0 +1,27 @@
+package core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the position of a bean among the other beans of a type when they are injected together
+ * as a {@code List<T>} or {@code Map<String, T>}. Beans with a lower value come first; beans
+ * without this annotation come after all ordered ones, and beans with the same value keep
+ * their registration order.
+ *
+ * Retention: Runtime - the annotation metadata is retained and accessible during runtime
+ * for reflection-based processing by the dependency injection framework.
+ *
+ * Target: Applicable to classes and to {@code @Bean} methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Order {
+
+    /** Position of beans without {@code @Order}. */
+    int LOWEST_PRECEDENCE = Integer.MAX_VALUE;
+
+    int value();
+}
@@ -0,0 +1,33 @@
+package core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the object pool of a bean declared with {@code @Scope(ScopeType.POOLED)}.
+ * Pooled beans are meant for objects that are expensive to build but not thread-safe, such as
+ * parsers, buffers or codecs: instances are borrowed for a unit of work and returned afterwards,
+ * so they are reused instead of being created per request.
+ *
+ * The {@code maxSize} element bounds the number of idle instances kept in the pool; instances
+ * returned while the pool is full are destroyed. The {@code maxIdleMillis} element is the time after which an idle
+ * instance is evicted and destroyed.
+ *
+ * Pooled beans without this annotation use the default values.
+ *
+ * Retention: Runtime - the annotation metadata is available during runtime for
+ * reflection-based processing by the dependency injection framework.
+ *
+ * Target: Applicable to class-level elements and {@link Bean} methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Pooled {
+    int DEFAULT_MAX_SIZE = 16;
+    long DEFAULT_MAX_IDLE_MILLIS = 60_000;
+
+    int maxSize() default DEFAULT_MAX_SIZE;
+    long maxIdleMillis() default DEFAULT_MAX_IDLE_MILLIS;
+}
@@ -18,9 +18,23 @@ import java.lang.annotation.Target;
  * Retention: Runtime - the annotation metadata is retained in the class file and is
  * available during runtime for reflection-based processing.
  *
- * Target: Applicable to method-level elements. The method must be void, must not
- * accept any parameters, and must not throw any checked exceptions.
+ * Asynchronous initialization: a method that returns a {@code CompletionStage} (for example a
+ * {@code CompletableFuture}) is complete when that stage completes, and a method marked
+ * {@code async = true} runs on the container's initialization executor, which uses virtual
+ * threads when the JVM provides them. While the container starts, singletons initialize
+ * concurrently: a bean's own creation waits only for the initialization of the beans it depends
+ * on, and the container is ready once every singleton is. Beans created later wait for their
+ * own initialization before they are handed out.
+ *
+ * Target: Applicable to method-level elements. The method must not accept any parameters,
+ * must not throw any checked exceptions, and must be void or return a {@code CompletionStage}.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
-public @interface PostConstruct {}
\ No newline at end of file
+public @interface PostConstruct {
+
+    /**
+     * Whether the method runs on the initialization executor instead of the creating thread.
+     */
+    boolean async() default false;
+}
\ No newline at end of file
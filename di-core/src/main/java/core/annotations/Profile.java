@@ -0,0 +1,28 @@
+package core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers a component, configuration or {@code @Bean} method only when one of the given
+ * profiles is active. A profile prefixed with {@code !} matches when that profile is not
+ * active.
+ *
+ * Active profiles are read from the comma-separated {@code di.profiles.active} property, which
+ * may be a system property, an environment variable or an entry of the configuration file; when
+ * it is not set, the {@code default} profile is active. Beans whose profiles
+ * do not match get no bean definition at all.
+ *
+ * Retention: Runtime - the annotation metadata is retained and accessible during runtime
+ * for reflection-based processing by the dependency injection framework.
+ *
+ * Target: Applicable to classes and to {@code @Bean} methods. On a {@code @Configuration}
+ * class it also applies to all of its {@code @Bean} methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Profile {
+    String[] value();
+}
@@ -17,13 +17,19 @@ import java.lang.annotation.Target;
  * scope types, such as {@code ScopeType.PROTOTYPE}, can be specified to customize the
  * component's lifecycle behavior.
  *
+ * A scope can also be selected by {@code name}, which takes precedence over {@code value}. The
+ * names of the built-in scopes are the lower-case names of their {@code ScopeType} constants;
+ * any other name refers to a custom {@code core.scope.BeanScope} registered with the
+ * application context under that name.
+ *
  * Retention: Runtime - the annotation metadata is available during runtime for
  * reflection-based processing by the dependency injection framework.
  *
- * Target: Applicable to type-level elements (classes or interfaces).
+ * Target: Applicable to type-level elements (classes or interfaces) and {@link Bean} methods.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.TYPE)
+@Target({ElementType.TYPE, ElementType.METHOD})
 public @interface Scope {
     ScopeType value() default ScopeType.SINGLETON;
+    String name() default "";
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects a configuration value instead of a bean. The value is a literal that may contain
+ * {@code ${key}} and {@code ${key:default}} placeholders, which are replaced with properties of
+ * the container's property source. A key resolves to its value in the first of these layers that
+ * defines it: system properties, then environment variables, then the file named by the
+ * {@code di.config} system property, then the {@code application.properties} classpath resource.
+ *
+ * The resulting string is converted to the type of the field or parameter: {@code String},
+ * primitives and their wrappers, {@link java.time.Duration} (ISO-8601 such as {@code PT5S}, or
+ * a number with one of the units {@code ms}, {@code s}, {@code m}, {@code h}, {@code d}, and
+ * milliseconds without a unit), enums (by constant name, ignoring case),
+ * {@link java.nio.file.Path} and {@code String[]} (comma-separated). Placeholders are resolved and converted once, when the container starts,
+ * and a placeholder without a default whose property is missing fails the startup.
+ *
+ * Fields annotated with {@code @Value} are injected whether or not they also carry
+ * {@code @Inject}.
+ *
+ * Retention: Runtime - the annotation metadata is retained and accessible during runtime
+ * for reflection-based processing by the dependency injection framework.
+ *
+ * Target: Applicable to fields and to parameters of injection constructors and {@code @Bean}
+ * methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface Value {
+    String value();
+}
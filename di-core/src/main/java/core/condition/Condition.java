@@ -0,0 +1,19 @@
+package core.condition;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * A custom registration condition, selected with {@code @Conditional}. Conditions are
+ * evaluated once per container, before any bean definition is registered, against the class or
+ * {@code @Bean} method that declares them.
+ */
+@FunctionalInterface
+public interface Condition {
+
+    /**
+     * @param context the active profiles, properties and class loader of the container
+     * @param element the annotated class or {@code @Bean} method
+     * @return whether the bean should be registered
+     */
+    boolean matches(ConditionContext context, AnnotatedElement element);
+}
@@ -0,0 +1,198 @@
+package core.condition;
+
+import core.annotations.Conditional;
+import core.annotations.ConditionalOnClass;
+import core.annotations.ConditionalOnProperty;
+import core.annotations.Profile;
+import core.property.PropertySource;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Evaluates the registration conditions of classes and {@code @Bean} methods: {@link Profile},
+ * {@link ConditionalOnProperty}, {@link ConditionalOnClass} and {@link Conditional}. An element
+ * is enabled when all of its conditions match; elements without any are always enabled.
+ *
+ * A context is created once per container. Active profiles are read once from the
+ * {@value #PROFILES_PROPERTY} property, properties come from the container's
+ * {@link PropertySource}, and each custom {@link Condition} class is instantiated once.
+ *
+ * The context records every profile, property and class it was asked about, together with the
+ * answer, so that a cached result of discovery can later be checked against the current inputs.
+ * Custom conditions can consult anything, so a context that evaluated one cannot be checked.
+ * A context is not thread-safe.
+ */
+public final class ConditionContext {
+
+    public static final String PROFILES_PROPERTY = "di.profiles.active";
+    public static final String DEFAULT_PROFILE = "default";
+
+    private static final String PROFILE_INPUT = "profile:";
+    private static final String PROPERTY_INPUT = "property:";
+    private static final String CLASS_INPUT = "class:";
+
+    private final Set<String> activeProfiles;
+    private final PropertySource properties;
+    private final ClassLoader classLoader;
+    private final Map<Class<? extends Condition>, Condition> conditions = new HashMap<>();
+    private final Map<String, String> inputs = new TreeMap<>();
+    private boolean customConditions;
+
+    public ConditionContext(Set<String> activeProfiles, PropertySource properties, ClassLoader classLoader) {
+        this.activeProfiles = Set.copyOf(activeProfiles);
+        this.properties = properties;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return a context with the comma-separated profiles of the {@value #PROFILES_PROPERTY}
+     *         property, or the default profile if it is not set
+     */
+    public static ConditionContext forProperties(PropertySource properties, ClassLoader classLoader) {
+        Set<String> profiles = new LinkedHashSet<>();
+        for (String profile : properties.getProperty(PROFILES_PROPERTY).orElse("").split(",")) {
+            if (!profile.isBlank()) {
+                profiles.add(profile.trim());
+            }
+        }
+        if (profiles.isEmpty()) {
+            profiles.add(DEFAULT_PROFILE);
+        }
+        return new ConditionContext(profiles, properties, classLoader);
+    }
+
+    public Set<String> getActiveProfiles() {
+        return activeProfiles;
+    }
+
+    public Optional<String> getProperty(String name) {
+        Optional<String> value = properties.getProperty(name);
+        inputs.put(PROPERTY_INPUT + name, value.orElse(null));
+        return value;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    public boolean isClassPresent(String className) {
+        boolean present;
+        try {
+            Class.forName(className, false, classLoader);
+            present = true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            present = false;
+        }
+        inputs.put(CLASS_INPUT + className, String.valueOf(present));
+        return present;
+    }
+
+    /**
+     * @return every input consulted so far, keyed by kind and name, with the answer it gave;
+     *         absent properties map to {@code null}
+     */
+    public Map<String, String> getRecordedInputs() {
+        return Collections.unmodifiableMap(inputs);
+    }
+
+    /**
+     * @return whether a custom {@link Condition} was evaluated, so that the recorded inputs
+     *         do not fully describe the outcome
+     */
+    public boolean hasEvaluatedCustomConditions() {
+        return customConditions;
+    }
+
+    /**
+     * @return whether every recorded input still gives the same answer in this context
+     */
+    public boolean answersAlike(Map<String, String> recorded) {
+        for (Map.Entry<String, String> input : recorded.entrySet()) {
+            String key = input.getKey();
+            String answer;
+            if (key.startsWith(PROFILE_INPUT)) {
+                answer = String.valueOf(activeProfiles.contains(key.substring(PROFILE_INPUT.length())));
+            } else if (key.startsWith(PROPERTY_INPUT)) {
+                answer = properties.getProperty(key.substring(PROPERTY_INPUT.length())).orElse(null);
+            } else if (key.startsWith(CLASS_INPUT)) {
+                answer = String.valueOf(isClassPresent(key.substring(CLASS_INPUT.length())));
+            } else {
+                return false;
+            }
+            if (!Objects.equals(answer, input.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether all registration conditions declared on the element match
+     */
+    public boolean matches(AnnotatedElement element) {
+        Profile profile = element.getAnnotation(Profile.class);
+        if (profile != null && !matchesProfile(profile)) {
+            return false;
+        }
+        ConditionalOnProperty property = element.getAnnotation(ConditionalOnProperty.class);
+        if (property != null && !matchesProperty(property)) {
+            return false;
+        }
+        ConditionalOnClass onClass = element.getAnnotation(ConditionalOnClass.class);
+        if (onClass != null && !Arrays.stream(onClass.value()).allMatch(this::isClassPresent)) {
+            return false;
+        }
+        Conditional conditional = element.getAnnotation(Conditional.class);
+        if (conditional != null) {
+            customConditions = true;
+            for (Class<? extends Condition> type : conditional.value()) {
+                if (!condition(type).matches(this, element)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesProfile(Profile profile) {
+        for (String expression : profile.value()) {
+            boolean negated = expression.startsWith("!");
+            String name = negated ? expression.substring(1) : expression;
+            boolean active = activeProfiles.contains(name);
+            inputs.put(PROFILE_INPUT + name, String.valueOf(active));
+            if (active != negated) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesProperty(ConditionalOnProperty condition) {
+        Optional<String> value = getProperty(condition.name());
+        if (value.isEmpty()) {
+            return condition.matchIfMissing();
+        }
+        return condition.havingValue().isEmpty()
+                ? !value.get().equalsIgnoreCase("false")
+                : value.get().equalsIgnoreCase(condition.havingValue());
+    }
+
+    private Condition condition(Class<? extends Condition> type) {
+        return conditions.computeIfAbsent(type, t -> {
+            try {
+                return t.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Cannot instantiate condition " + t.getName(), e);
+            }
+        });
+    }
+}
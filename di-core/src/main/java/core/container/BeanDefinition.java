@@ -0,0 +1,136 @@
+package core.container;
+
+import core.enums.ScopeType;
+import core.injection.GeneratedBeanFactory;
+import core.injection.InjectionPlan;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Represents the definition of a bean in the context of a dependency injection framework.
+ * This class contains metadata about the bean, including its class type, scope, instantiation
+ * behavior, and additional attributes used to manage and retrieve the bean.
+ *
+ * Key aspects of this definition include:
+ *
+ * - The class type of the bean that will be managed by the container.
+ * - The scope of the bean (e.g., singleton or prototype), and the name of the scope that stores
+ *   its instances.
+ * - Whether the bean is lazily initialized or eagerly instantiated.
+ * - Whether the bean is marked as primary, which affects how it is used during dependency injection.
+ * - A qualifier that provides a unique identifier for the bean, enabling named injections.
+ * - An optional factory method, which specifies how the bean is created if it is associated
+ *   with a configuration method annotated in a Spring-style @Bean method.
+ * - An optional compile-time generated factory, which creates the bean without reflection.
+ * - The cached injection plan, which holds the constructor, injectable fields and lifecycle
+ *   callbacks of the bean once they have been resolved.
+ *
+ * This class is typically constructed during the scanning or configuration phase of a dependency
+ * injection container and is used internally to manage bean lifecycle and assembly of object graphs.
+ */
+public class BeanDefinition {
+    private final Class<?> beanClass;
+    private final ScopeType scope;
+    private final String scopeName;
+    private final String name;
+    private final boolean lazy;
+    private final boolean isPrimary;
+    private final String qualifier;
+    private final Optional<Method> factoryMethod;
+    private Object factoryInstance;
+    private GeneratedBeanFactory<?> generatedFactory;
+    private volatile InjectionPlan injectionPlan;
+    private volatile Object singletonInstance;
+
+
+    public BeanDefinition(Class<?> beanClass,
+                          ScopeType scope,
+                          boolean lazy,
+                          boolean isPrimary,
+                          String qualifier,
+                          Optional<Method> factoryMethod) {
+        this(beanClass, scope, scope.name().toLowerCase(Locale.ROOT), lazy, isPrimary, qualifier, factoryMethod);
+    }
+
+    public BeanDefinition(Class<?> beanClass,
+                          ScopeType scope,
+                          String scopeName,
+                          boolean lazy,
+                          boolean isPrimary,
+                          String qualifier,
+                          Optional<Method> factoryMethod) {
+        this.beanClass = beanClass;
+        this.scope = scope;
+        this.scopeName = scopeName;
+        this.name = factoryMethod
+                .map(method -> beanClass.getName() + " (@Bean " + method.getDeclaringClass().getName() + "." + method.getName() + ")")
+                .orElse(beanClass.getName());
+        this.lazy = lazy;
+        this.isPrimary = isPrimary;
+        this.qualifier = qualifier;
+        this.factoryMethod = factoryMethod;
+    }
+
+    public Class<?> getBeanClass() { return beanClass; }
+    public ScopeType getScope() { return scope; }
+    public String getScopeName() { return scopeName; }
+    public boolean isLazy() { return lazy; }
+    public boolean isPrimary() { return isPrimary; }
+    public String getQualifier() { return qualifier; }
+    public Optional<Method> getFactoryMethod() { return factoryMethod; }
+
+
+    public void setFactoryInstance(Object instance) {
+        this.factoryInstance = instance;
+    }
+
+    public Optional<Object> getFactoryInstance() {
+        return Optional.ofNullable(factoryInstance);
+    }
+
+    public void setGeneratedFactory(GeneratedBeanFactory<?> generatedFactory) {
+        this.generatedFactory = generatedFactory;
+    }
+
+    public Optional<GeneratedBeanFactory<?>> getGeneratedFactory() {
+        return Optional.ofNullable(generatedFactory);
+    }
+
+    public void setInjectionPlan(InjectionPlan injectionPlan) {
+        this.injectionPlan = injectionPlan;
+    }
+
+    public InjectionPlan getInjectionPlan() {
+        InjectionPlan plan = injectionPlan;
+        if (plan == null) {
+            throw new IllegalStateException("No injection plan built for bean " + this);
+        }
+        return plan;
+    }
+
+    // The singleton scope owns singleton instances; the definition only caches the reference
+    // so that looking up an existing singleton is a single volatile read.
+    Object getSingletonInstance() {
+        return singletonInstance;
+    }
+
+    void setSingletonInstance(Object instance) {
+        this.singletonInstance = instance;
+    }
+
+    /**
+     * @return the unique name under which scopes store instances of this bean: the bean class
+     *         name, followed by the declaring method for {@code @Bean} definitions
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
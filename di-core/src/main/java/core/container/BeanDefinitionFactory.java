@@ -1,9 +1,11 @@
 package core.container;
 
 import core.annotations.*;
+import core.condition.ConditionContext;
 import core.enums.ScopeType;
 
 import java.lang.reflect.Method;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,9 @@ import java.util.Optional;
  * - Extracting metadata from annotations such as {@link Scope}, {@link Lazy},
  *   {@link Primary}, or {@link Qualifier}.
  * - Constructing {@link BeanDefinition} instances with the appropriate metadata.
+ * - Evaluating the registration conditions ({@link Profile}, {@link ConditionalOnProperty},
+ *   {@link ConditionalOnClass} and {@link Conditional}) of a definition, so that disabled
+ *   definitions are dropped before they reach the registry.
  *
  * This class is typically used during the initialization phase of a dependency
  * injection container, supporting processes like classpath scanning and
@@ -36,10 +41,8 @@ public class BeanDefinitionFactory {
             throw new IllegalArgumentException("Class " + clazz.getName() + " must be annotated with @Component or @Configuration");
         }
 
-        ScopeType scope = ScopeType.SINGLETON;
-        if (clazz.isAnnotationPresent(Scope.class)) {
-            scope = clazz.getAnnotation(Scope.class).value();
-        }
+        Scope scope = clazz.getAnnotation(Scope.class);
+        checkScope(scope, clazz.getName());
 
         boolean lazy = clazz.isAnnotationPresent(Lazy.class);
 
@@ -52,7 +55,8 @@ public class BeanDefinitionFactory {
 
         return new BeanDefinition(
                 clazz,
-                scope,
+                scopeType(scope),
+                scopeName(scope),
                 lazy,
                 isPrimary,
                 qualifier,
@@ -65,10 +69,8 @@ public class BeanDefinitionFactory {
             throw new IllegalArgumentException("Method " + method.getName() + " is not annotated with @Bean");
         }
 
-        ScopeType scope = ScopeType.SINGLETON;
-        if (method.isAnnotationPresent(Scope.class)) {
-            scope = method.getAnnotation(Scope.class).value();
-        }
+        Scope scope = method.getAnnotation(Scope.class);
+        checkScope(scope, configClass.getName() + "." + method.getName() + "()");
 
         boolean lazy = method.isAnnotationPresent(Lazy.class);
         boolean isPrimary = method.isAnnotationPresent(Primary.class);
@@ -79,11 +81,55 @@ public class BeanDefinitionFactory {
 
         return new BeanDefinition(
                 method.getReturnType(),
-                scope,
+                scopeType(scope),
+                scopeName(scope),
                 lazy,
                 isPrimary,
                 qualifier,
                 Optional.of(method)
         );
     }
+
+    /**
+     * Checks the registration conditions of a definition: those of its class, or for a
+     * {@code @Bean} method those of the method and of its configuration class.
+     */
+    public static boolean isEnabled(BeanDefinition def, ConditionContext context) {
+        Optional<Method> factoryMethod = def.getFactoryMethod();
+        if (factoryMethod.isPresent()) {
+            Method method = factoryMethod.get();
+            return context.matches(method.getDeclaringClass()) && context.matches(method);
+        }
+        return context.matches(def.getBeanClass());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the scope selects CUSTOM without naming the registered scope
+     */
+    private static void checkScope(Scope scope, String element) {
+        if (scope != null && scope.value() == ScopeType.CUSTOM && scope.name().isEmpty()) {
+            throw new IllegalArgumentException("@Scope(ScopeType.CUSTOM) on " + element
+                    + " must name the registered scope with @Scope(name = ...)");
+        }
+    }
+
+    private static ScopeType scopeType(Scope scope) {
+        if (scope == null) {
+            return ScopeType.SINGLETON;
+        }
+        if (scope.name().isEmpty()) {
+            return scope.value();
+        }
+        for (ScopeType type : ScopeType.values()) {
+            if (type != ScopeType.CUSTOM && type.name().equalsIgnoreCase(scope.name())) {
+                return type;
+            }
+        }
+        return ScopeType.CUSTOM;
+    }
+
+    private static String scopeName(Scope scope) {
+        ScopeType type = scopeType(scope);
+        return type == ScopeType.CUSTOM ? scope.name() : type.name().toLowerCase(Locale.ROOT);
+    }
 }
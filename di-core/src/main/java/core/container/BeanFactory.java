@@ -0,0 +1,401 @@
+package core.container;
+
+import core.annotations.Pooled;
+import core.enums.ScopeType;
+import core.injection.InjectionPlan;
+import core.jfr.BeanInstantiationEvent;
+import core.jfr.BeanResolutionEvent;
+import core.jfr.FieldInjectionEvent;
+import core.jfr.LifecycleCallbackEvent;
+import core.jfr.SingletonCacheEvent;
+import core.scope.BeanPool;
+import core.scope.BeanScope;
+import core.scope.ConcurrentBeanScope;
+import core.scope.ContextScope;
+import core.scope.PrototypeScope;
+import core.scope.ThreadScope;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BeanFactory {
+
+    private static final System.Logger LOGGER = System.getLogger(BeanFactory.class.getName());
+
+    private final BeanRegistry registry;
+    private final ConcurrentBeanScope singletons = new ConcurrentBeanScope();
+    private final ThreadScope threadScope = new ThreadScope();
+    private final Map<String, BeanScope> scopes = new ConcurrentHashMap<>();
+    private final Map<BeanDefinition, BeanPool<Object>> pools = new ConcurrentHashMap<>();
+    private final ContainerMetrics metrics;
+    private final BeanFactory parent;
+
+    // Singletons created by preInstantiate, whose asynchronous initialization is not waited for
+    private final Set<BeanDefinition> deferredInit = ConcurrentHashMap.newKeySet();
+    private final Map<BeanDefinition, CompletableFuture<Void>> pendingInit = new ConcurrentHashMap<>();
+    private volatile ExecutorService initExecutor;
+
+    public BeanFactory(BeanRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * @param metrics metrics to record lookups and creations into, or null to record nothing
+     */
+    public BeanFactory(BeanRegistry registry, ContainerMetrics metrics) {
+        this(registry, metrics, null);
+    }
+
+    /**
+     * @param registry registry whose parent, if any, is the registry of the parent factory
+     * @param metrics  metrics to record lookups and creations into, or null to record nothing
+     * @param parent   factory that owns the definitions inherited from the parent registry, or
+     *                 null for a root factory
+     */
+    public BeanFactory(BeanRegistry registry, ContainerMetrics metrics, BeanFactory parent) {
+        this.registry = registry;
+        this.metrics = metrics;
+        this.parent = parent;
+        scopes.put(scopeName(ScopeType.SINGLETON), singletons);
+        scopes.put(scopeName(ScopeType.PROTOTYPE), PrototypeScope.INSTANCE);
+        scopes.put(scopeName(ScopeType.THREAD), threadScope);
+        scopes.put(scopeName(ScopeType.CONTEXT), ContextScope.INSTANCE);
+    }
+
+    private static String scopeName(ScopeType type) {
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+
+    public Object getBean(Class<?> clazz) {
+        BeanResolutionEvent event = new BeanResolutionEvent();
+        event.begin();
+        BeanDefinition def = registry.resolve(clazz);
+        event.requestedType = clazz;
+        event.commit(def);
+        return getBean(def);
+    }
+
+    /**
+     * Returns the bean registered under the given qualifier, which must be assignable to the
+     * given type.
+     */
+    public Object getBean(String name, Class<?> clazz) {
+        BeanResolutionEvent event = new BeanResolutionEvent();
+        event.begin();
+        BeanDefinition def = registry.resolve(clazz, name);
+        event.requestedType = clazz;
+        event.commit(def);
+        return getBean(def);
+    }
+
+    /**
+     * Returns an instance of the given definition from the scope it belongs to. Singletons and
+     * prototypes bypass the scope lookup: a singleton that already exists costs a single read of
+     * the reference cached on its definition, and a prototype goes straight to its injection plan.
+     * A definition inherited from the parent registry is handed to the parent factory, so the
+     * parent's singletons and scopes are shared rather than duplicated.
+     */
+    public Object getBean(BeanDefinition def) {
+        if (parent != null && !registry.isRegistered(def)) {
+            return parent.getBean(def);
+        }
+        if (metrics != null) {
+            metrics.forBean(def).recordLookup();
+        }
+        switch (def.getScope()) {
+            case SINGLETON:
+                return getSingleton(def);
+            case PROTOTYPE:
+                return createBean(def);
+            case POOLED:
+                return getPool(def).borrow();
+            default:
+                return getScoped(def, getScope(def.getScopeName()));
+        }
+    }
+
+    private Object getSingleton(BeanDefinition def) {
+        SingletonCacheEvent event = new SingletonCacheEvent();
+        event.begin();
+        Object instance = def.getSingletonInstance();
+        event.hit = instance != null;
+        if (instance == null) {
+            instance = getScoped(def, singletons);
+            def.setSingletonInstance(instance);
+        }
+        event.commit(def);
+        return instance;
+    }
+
+    private Object getScoped(BeanDefinition def, BeanScope scope) {
+        return scope.get(def.getName(), () -> {
+            Object instance = createBean(def);
+            scope.registerDestructionCallback(def.getName(), () -> destroyBean(def, instance));
+            return instance;
+        });
+    }
+
+    /**
+     * Registers a custom scope that definitions can select with {@code @Scope(name = ...)}.
+     *
+     * @throws IllegalArgumentException if a scope with this name is already registered
+     */
+    public void registerScope(String name, BeanScope scope) {
+        if (scopes.putIfAbsent(name, scope) != null) {
+            throw new IllegalArgumentException("A scope named '" + name + "' is already registered");
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if no scope with this name is registered
+     */
+    public BeanScope getScope(String name) {
+        BeanScope scope = scopes.get(name);
+        if (scope == null) {
+            throw new IllegalStateException("No scope registered with name '" + name + "'");
+        }
+        return scope;
+    }
+
+    /**
+     * Returns the object pool of a POOLED definition, creating the (empty) pool on first use.
+     * Instances obtained through {@link #getBean} are borrowed from this pool and should be
+     * handed back with {@link BeanPool#release(Object)}.
+     */
+    public BeanPool<Object> getPool(BeanDefinition def) {
+        if (def.getScope() != ScopeType.POOLED) {
+            throw new IllegalArgumentException("Bean " + def + " is not POOLED but " + def.getScope());
+        }
+        if (parent != null && !registry.isRegistered(def)) {
+            return parent.getPool(def);
+        }
+        return pools.computeIfAbsent(def, this::createPool);
+    }
+
+    private BeanPool<Object> createPool(BeanDefinition def) {
+        Pooled settings = def.getFactoryMethod().isPresent()
+                ? def.getFactoryMethod().get().getAnnotation(Pooled.class)
+                : def.getBeanClass().getAnnotation(Pooled.class);
+        int maxSize = settings != null ? settings.maxSize() : Pooled.DEFAULT_MAX_SIZE;
+        long maxIdleMillis = settings != null ? settings.maxIdleMillis() : Pooled.DEFAULT_MAX_IDLE_MILLIS;
+
+        return new BeanPool<>(def.toString(), maxSize, maxIdleMillis,
+                () -> createBean(def), instance -> destroyBean(def, instance));
+    }
+
+    /**
+     * Returns the scope holding the THREAD-scoped instances of every thread.
+     */
+    public ThreadScope getThreadScope() {
+        return threadScope;
+    }
+
+    private Object createBean(BeanDefinition def) {
+        if (metrics != null) {
+            return createBeanMeasured(def);
+        }
+        InjectionPlan plan = def.getInjectionPlan();
+
+        Object instance = instantiate(def, plan);
+        injectFields(def, plan, instance);
+        postConstruct(def, plan, instance);
+
+        return instance;
+    }
+
+    private Object createBeanMeasured(BeanDefinition def) {
+        InjectionPlan plan = def.getInjectionPlan();
+        metrics.enterCreation();
+        long start = System.nanoTime();
+        long instantiated = start;
+        long injected = start;
+        long end = start;
+        boolean completed = false;
+        try {
+            Object instance = instantiate(def, plan);
+            instantiated = System.nanoTime();
+            injectFields(def, plan, instance);
+            injected = System.nanoTime();
+            postConstruct(def, plan, instance);
+            end = System.nanoTime();
+            completed = true;
+            return instance;
+        } finally {
+            // Failed creations still unwind the stack, but are not recorded
+            long total = System.nanoTime() - start;
+            long nested = metrics.exitCreation(total);
+            if (completed) {
+                metrics.forBean(def).recordCreation(instantiated - start, injected - instantiated, end - injected,
+                        total, total - nested);
+            }
+        }
+    }
+
+    // Each creation step is wrapped in its flight recorder event
+
+    private Object instantiate(BeanDefinition def, InjectionPlan plan) {
+        BeanInstantiationEvent event = new BeanInstantiationEvent();
+        event.begin();
+        Object instance = plan.instantiate(this);
+        event.commit(def);
+        return instance;
+    }
+
+    private void injectFields(BeanDefinition def, InjectionPlan plan, Object instance) {
+        FieldInjectionEvent event = new FieldInjectionEvent();
+        event.begin();
+        plan.injectFields(instance, this);
+        event.commit(def);
+    }
+
+    private void postConstruct(BeanDefinition def, InjectionPlan plan, Object instance) {
+        LifecycleCallbackEvent event = new LifecycleCallbackEvent(LifecycleCallbackEvent.POST_CONSTRUCT);
+        event.begin();
+        if (plan.hasAsyncPostConstruct(instance) && deferredInit.contains(def)) {
+            pendingInit.put(def, plan.postConstructAsync(instance, initExecutor()));
+        } else {
+            plan.postConstruct(instance);
+        }
+        event.commit(def);
+    }
+
+    /**
+     * Creates a singleton while the container starts, without waiting for its asynchronous
+     * {@code @PostConstruct} callbacks. The caller must not let dependents of the singleton be
+     * created before the returned future completes.
+     *
+     * @return completes once the singleton is fully initialized
+     */
+    public CompletableFuture<Void> preInstantiate(BeanDefinition def) {
+        deferredInit.add(def);
+        try {
+            getBean(def);
+        } finally {
+            deferredInit.remove(def);
+        }
+        CompletableFuture<Void> init = pendingInit.remove(def);
+        return init != null ? init : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Executor of {@code @PostConstruct(async = true)} callbacks: one virtual thread per task
+     * where the JVM supports them, otherwise a cached pool of daemon threads.
+     */
+    private ExecutorService initExecutor() {
+        ExecutorService executor = initExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = initExecutor;
+                if (executor == null) {
+                    executor = newInitExecutor();
+                    initExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static ExecutorService newInitExecutor() {
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor() exists from Java 21 on
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(daemonThreads("di-init-"));
+        }
+    }
+
+    private void destroyBean(BeanDefinition def, Object instance) {
+        LifecycleCallbackEvent event = new LifecycleCallbackEvent(LifecycleCallbackEvent.PRE_DESTROY);
+        event.begin();
+        def.getInjectionPlan().preDestroy(instance);
+        event.commit(def);
+    }
+
+    /**
+     * Destroys every bean instance this factory holds: the idle instances of its pools, the
+     * THREAD-scoped instances of all threads, and then its singletons.
+     *
+     * A singleton is only destroyed once every bean that depends on it has been, so callbacks run
+     * in reverse creation order, but singletons whose dependents are all gone are destroyed in
+     * parallel on short-lived daemon threads. A {@code @PreDestroy} callback that fails or exceeds
+     * the timeout is logged and does not hold up the rest of the graph; a callback that is still
+     * running once every other bean has been destroyed is interrupted.
+     *
+     * Singletons inherited from a parent factory are left alone.
+     *
+     * @param graph         dependency graph of this factory's own definitions
+     * @param timeoutMillis time each singleton's callbacks may take
+     */
+    public void destroyAll(DependencyGraph graph, long timeoutMillis) {
+        pools.values().forEach(BeanPool::clear);
+        pools.clear();
+        threadScope.endAll();
+
+        List<BeanDefinition> order = graph.getCreationOrder();
+        Map<BeanDefinition, List<BeanDefinition>> dependents = new HashMap<>();
+        for (BeanDefinition def : order) {
+            for (BeanDefinition dependency : graph.getDependencies(def)) {
+                dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(def);
+            }
+        }
+
+        ExecutorService executor = Executors.newCachedThreadPool(daemonThreads("di-destroy-"));
+        try {
+            // Walking the creation order backwards reaches every dependent before its dependencies
+            Map<BeanDefinition, CompletableFuture<Void>> destroyed = new HashMap<>();
+            for (int i = order.size() - 1; i >= 0; i--) {
+                BeanDefinition def = order.get(i);
+                CompletableFuture<?>[] before = dependents.getOrDefault(def, List.of()).stream()
+                        .map(destroyed::get)
+                        .toArray(CompletableFuture<?>[]::new);
+                destroyed.put(def, CompletableFuture.allOf(before)
+                        .thenCompose(ignored -> destroySingleton(def, executor, timeoutMillis)));
+            }
+            CompletableFuture.allOf(destroyed.values().toArray(new CompletableFuture<?>[0])).join();
+            singletons.destroyAll();
+        } finally {
+            executor.shutdownNow();
+            if (initExecutor != null) {
+                initExecutor.shutdown();
+            }
+        }
+    }
+
+    private CompletableFuture<Void> destroySingleton(BeanDefinition def, ExecutorService executor, long timeoutMillis) {
+        Object instance = def.getSingletonInstance();
+        if (def.getScope() != ScopeType.SINGLETON || instance == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        def.setSingletonInstance(null);
+        singletons.remove(def.getName());
+
+        return CompletableFuture.runAsync(() -> destroyBean(def, instance), executor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    LOGGER.log(System.Logger.Level.WARNING, "Failed to destroy singleton " + def, e);
+                    return null;
+                });
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @return the metrics this factory records into, if metrics are enabled
+     */
+    public Optional<ContainerMetrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+}
@@ -0,0 +1,83 @@
+package core.container;
+
+import core.enums.ScopeType;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creation and lookup statistics of a single bean definition, collected while
+ * {@link ContainerMetrics} are enabled.
+ *
+ * Creation is split into its three phases: instantiation (constructor or {@code @Bean} method,
+ * including the creation of its arguments), field injection and {@code @PostConstruct}. The
+ * total time of a creation includes the creation of every dependency it triggered; the self
+ * time excludes it, so self times can be summed across beans without counting anything twice.
+ *
+ * All counters are {@link LongAdder}s, so concurrent lookups of the same bean do not contend.
+ */
+public final class BeanMetrics {
+
+    private final BeanDefinition definition;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder instantiationNanos = new LongAdder();
+    private final LongAdder injectionNanos = new LongAdder();
+    private final LongAdder postConstructNanos = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder selfNanos = new LongAdder();
+
+    BeanMetrics(BeanDefinition definition) {
+        this.definition = definition;
+    }
+
+    void recordLookup() {
+        lookups.increment();
+    }
+
+    void recordCreation(long instantiation, long injection, long postConstruct, long total, long self) {
+        creations.increment();
+        instantiationNanos.add(instantiation);
+        injectionNanos.add(injection);
+        postConstructNanos.add(postConstruct);
+        totalNanos.add(total);
+        selfNanos.add(self);
+    }
+
+    public BeanDefinition getDefinition() { return definition; }
+
+    /** @return number of {@code getBean} calls and injections that requested this bean */
+    public long getLookups() { return lookups.sum(); }
+
+    /** @return number of instances created, which for prototypes is one per lookup */
+    public long getCreations() { return creations.sum(); }
+
+    /**
+     * @return number of lookups served by an existing instance: from the singleton cache, the
+     *         scope's storage or the pool; always zero for prototypes
+     */
+    public long getCacheHits() {
+        if (definition.getScope() == ScopeType.PROTOTYPE) {
+            return 0;
+        }
+        return Math.max(0, getLookups() - getCreations());
+    }
+
+    public long getInstantiationNanos() { return instantiationNanos.sum(); }
+    public long getInjectionNanos() { return injectionNanos.sum(); }
+    public long getPostConstructNanos() { return postConstructNanos.sum(); }
+
+    /** @return time spent creating this bean, including the dependencies created on the way */
+    public long getTotalNanos() { return totalNanos.sum(); }
+
+    /** @return time spent creating this bean, excluding the dependencies created on the way */
+    public long getSelfNanos() { return selfNanos.sum(); }
+
+    @Override
+    public String toString() {
+        return String.format("%s [%s] self=%.3f ms total=%.3f ms (instantiate=%.3f inject=%.3f postConstruct=%.3f)"
+                        + " lookups=%d creations=%d cacheHits=%d",
+                definition, definition.getScopeName(), getSelfNanos() / 1e6, getTotalNanos() / 1e6,
+                getInstantiationNanos() / 1e6, getInjectionNanos() / 1e6, getPostConstructNanos() / 1e6,
+                getLookups(), getCreations(), getCacheHits());
+    }
+}
@@ -0,0 +1,300 @@
+package core.container;
+
+import core.annotations.Bean;
+import core.annotations.Configuration;
+import core.annotations.Order;
+import core.property.MapPropertySource;
+import core.property.PropertySource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The BeanRegistry class serves as a registry for managing bean definitions in a dependency injection framework.
+ * It allows for registering, retrieving, and managing bean definitions, either by their type or by a unique qualifier.
+ * This class plays a core role in maintaining the metadata and associations needed for resolving and creating beans.
+ *
+ * Responsibilities:
+ * - Registering bean definitions by their class type.
+ * - Registering bean definitions by an optional qualifier.
+ * - Providing methods to retrieve bean definitions by class type or qualifier.
+ * - Supporting aliasing, where an additional name can be associated with a registered bean definition.
+ * - Checking if a bean definition exists by type or qualifier.
+ *
+ * Methods:
+ * - register(Class<?> clazz, BeanDefinition def):
+ *   Adds a new bean definition to the registry, associating it with both its class type and, if provided, its qualifier.
+ *   Several definitions of the same type, such as {@code @Bean} methods with the same return type, are all kept:
+ *   a lookup by that type is then ambiguous unless one of them is primary, and each remains reachable by qualifier.
+ *   Throws IllegalArgumentException if another definition already uses the qualifier.
+ * - registerAlias(String name, BeanDefinition def):
+ *   Creates an alias for a bean definition, assigning it a unique name that can be used for retrieval.
+ *   The alias names that exact definition, even if other definitions were registered under the same type.
+ *   Throws IllegalArgumentException if the definition is not registered, or if the name belongs to another definition.
+ * - getByType(Class<?> clazz):
+ *   Retrieves the first bean definition registered under the specified class type. Returns null if not found.
+ * - getByQualifier(String name):
+ *   Retrieves the bean definition associated with the specified qualifier. Returns null if not found.
+ * - containsType(Class<?> clazz):
+ *   Checks if a bean definition exists for the specified class type.
+ * - containsQualifier(String name):
+ *   Checks if a bean definition exists for the specified qualifier.
+ * - refresh():
+ *   Rebuilds the type resolution index. Every registered bean class, together with all of its
+ *   superclasses and interfaces, is mapped to the definition that a lookup for that type resolves to,
+ *   or to the ambiguity error such a lookup must raise. Called once registration has finished.
+ * - resolve(Class<?> type):
+ *   Returns the definition a request for the given type resolves to, using a single probe of the
+ *   resolution index. Throws a RuntimeException if no bean or more than one candidate matches.
+ * - resolveAll(Class<?> type):
+ *   Returns every definition assignable to the given type, including those of ancestor registries,
+ *   sorted by {@link Order}. Used to resolve {@code List<T>} and {@code Map<String, T>} injection points.
+ * - resolve(Class<?> type, String qualifier):
+ *   Returns the definition registered under the given qualifier, checking that it is assignable
+ *   to the requested type. Throws a RuntimeException if there is no such bean.
+ * - isRegistered(BeanDefinition def):
+ *   Checks whether the definition belongs to this registry rather than to one of its ancestors.
+ *
+ * The registry also carries the {@link PropertySource} that {@code @Value} injection points of its
+ * definitions are resolved against.
+ *
+ * A registry may have a parent. Lookups by type or qualifier try the registry's own definitions
+ * first and fall back to the parent's, so a child registry only needs to hold the definitions
+ * that differ from its parent and can shadow any of them.
+ */
+public class BeanRegistry {
+
+    private final BeanRegistry parent;
+    private final PropertySource properties;
+    private final Map<Class<?>, List<BeanDefinition>> definitionsByType = new HashMap<>();
+    private final Map<String, BeanDefinition> definitionsByName = new HashMap<>();
+    private final Set<BeanDefinition> definitions = new LinkedHashSet<>();
+    private volatile Map<Class<?>, Resolution> resolutionIndex = Map.of();
+    private final Map<Class<?>, List<BeanDefinition>> allByType = new ConcurrentHashMap<>();
+
+    public BeanRegistry() {
+        this(null);
+    }
+
+    /**
+     * @param parent registry to fall back to for types and qualifiers this one does not define,
+     *               or null for a root registry; the registry uses the parent's property source
+     */
+    public BeanRegistry(BeanRegistry parent) {
+        this(parent, parent != null ? parent.properties : new MapPropertySource("empty", Map.of()));
+    }
+
+    /**
+     * @param parent     registry to fall back to, or null for a root registry
+     * @param properties properties to resolve {@code @Value} injection points against
+     */
+    public BeanRegistry(BeanRegistry parent, PropertySource properties) {
+        this.parent = parent;
+        this.properties = properties;
+    }
+
+    public PropertySource getPropertySource() {
+        return properties;
+    }
+
+    public Optional<BeanRegistry> getParent() {
+        return Optional.ofNullable(parent);
+    }
+
+    public void register(Class<?> clazz, BeanDefinition def) {
+        if (!def.getQualifier().isEmpty()) {
+            putName(def.getQualifier(), def);
+        }
+        definitionsByType.computeIfAbsent(clazz, k -> new ArrayList<>()).add(def);
+        definitions.add(def);
+    }
+
+    public void registerAlias(String name, BeanDefinition def) {
+        if (definitions.contains(def)) {
+            putName(name, def);
+        } else {
+            throw new IllegalArgumentException("No such bean definition registered: " + def);
+        }
+    }
+
+    private void putName(String name, BeanDefinition def) {
+        BeanDefinition existing = definitionsByName.putIfAbsent(name, def);
+        if (existing != null && existing != def) {
+            throw new IllegalArgumentException("Bean name '" + name + "' is used by both " + existing + " and " + def);
+        }
+    }
+
+    public BeanDefinition getByType(Class<?> clazz) {
+        List<BeanDefinition> registered = definitionsByType.get(clazz);
+        return registered != null ? registered.get(0) : null;
+    }
+
+    public BeanDefinition getByQualifier(String name) {
+        return definitionsByName.get(name);
+    }
+
+    /**
+     * @return whether the definition was registered with this registry, as opposed to an ancestor
+     */
+    public boolean isRegistered(BeanDefinition def) {
+        return definitions.contains(def);
+    }
+
+    /**
+     * @return whether this registry or one of its ancestors defines a bean of exactly this class
+     */
+    public boolean definesClass(Class<?> clazz) {
+        for (BeanDefinition def : definitionsByType.getOrDefault(clazz, List.of())) {
+            if (def.getFactoryMethod().isEmpty()) {
+                return true;
+            }
+        }
+        return parent != null && parent.definesClass(clazz);
+    }
+
+    public boolean containsType(Class<?> clazz) {
+        return definitionsByType.containsKey(clazz);
+    }
+
+    public boolean containsQualifier(String name) {
+        return definitionsByName.containsKey(name);
+    }
+
+    public List<BeanDefinition> getAllDefinitions() {
+        return new ArrayList<>(definitions);
+    }
+
+    public void refresh() {
+        Map<Class<?>, List<BeanDefinition>> candidatesByType = new HashMap<>();
+        for (BeanDefinition def : definitions) {
+            for (Class<?> type : typeHierarchy(def.getBeanClass())) {
+                candidatesByType.computeIfAbsent(type, k -> new ArrayList<>()).add(def);
+            }
+        }
+
+        Map<Class<?>, Resolution> index = new HashMap<>();
+        candidatesByType.forEach((type, candidates) -> index.put(type, Resolution.of(type, candidates)));
+        this.resolutionIndex = Map.copyOf(index);
+        allByType.clear();
+    }
+
+    public BeanDefinition resolve(Class<?> type) {
+        Resolution resolution = resolutionIndex.get(type);
+        if (resolution == null) {
+            if (parent != null) {
+                return parent.resolve(type);
+            }
+            throw new RuntimeException("No bean definition found for: " + type.getName());
+        }
+        return resolution.definition();
+    }
+
+    /**
+     * @return the definitions of every bean assignable to the type, sorted by {@link Order} and
+     *         otherwise in registration order, own definitions before inherited ones; empty if there
+     *         are none. The unmodifiable result is computed once per type.
+     */
+    public List<BeanDefinition> resolveAll(Class<?> type) {
+        return allByType.computeIfAbsent(type, this::collectAll);
+    }
+
+    private List<BeanDefinition> collectAll(Class<?> type) {
+        List<BeanDefinition> all = new ArrayList<>();
+        Resolution resolution = resolutionIndex.get(type);
+        if (resolution != null) {
+            all.addAll(resolution.candidates);
+        }
+        if (parent != null) {
+            all.addAll(parent.resolveAll(type));
+        }
+        all.sort(Comparator.comparingInt(BeanRegistry::order));
+        return List.copyOf(all);
+    }
+
+    private static int order(BeanDefinition def) {
+        Order order = def.getFactoryMethod().isPresent()
+                ? def.getFactoryMethod().get().getAnnotation(Order.class)
+                : def.getBeanClass().getAnnotation(Order.class);
+        return order != null ? order.value() : Order.LOWEST_PRECEDENCE;
+    }
+
+    public BeanDefinition resolve(Class<?> type, String qualifier) {
+        BeanDefinition def = definitionsByName.get(qualifier);
+        if (def == null) {
+            if (parent != null) {
+                return parent.resolve(type, qualifier);
+            }
+            throw new RuntimeException("No bean definition found with qualifier: " + qualifier);
+        }
+        if (!type.isAssignableFrom(def.getBeanClass())) {
+            throw new RuntimeException("Bean '" + qualifier + "' of type " + def.getBeanClass().getName()
+                    + " is not assignable to " + type.getName());
+        }
+        return def;
+    }
+
+    private static Set<Class<?>> typeHierarchy(Class<?> clazz) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.push(clazz);
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.pop();
+            if (!types.add(type)) {
+                continue;
+            }
+            if (type.getSuperclass() != null) {
+                pending.push(type.getSuperclass());
+            }
+            for (Class<?> iface : type.getInterfaces()) {
+                pending.push(iface);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Outcome of resolving a requested type against all registered definitions: either the single
+     * definition to use, or the error message describing why the type is ambiguous.
+     */
+    private static final class Resolution {
+        private final BeanDefinition definition;
+        private final String error;
+        private final List<BeanDefinition> candidates;
+
+        private Resolution(BeanDefinition definition, String error, List<BeanDefinition> candidates) {
+            this.definition = definition;
+            this.error = error;
+            this.candidates = candidates;
+        }
+
+        static Resolution of(Class<?> type, List<BeanDefinition> candidates) {
+            if (candidates.size() == 1) {
+                return new Resolution(candidates.get(0), null, candidates);
+            }
+
+            List<BeanDefinition> primaries = new ArrayList<>();
+            for (BeanDefinition candidate : candidates) {
+                if (candidate.isPrimary()) {
+                    primaries.add(candidate);
+                }
+            }
+
+            if (primaries.size() == 1) {
+                return new Resolution(primaries.get(0), null, candidates);
+            } else if (primaries.isEmpty()) {
+                return new Resolution(null, "Multiple beans found for type " + type.getName() +
+                        ", but none marked as @Primary", candidates);
+            } else {
+                return new Resolution(null, "Multiple @Primary beans found for type " + type.getName(), candidates);
+            }
+        }
+
+        BeanDefinition definition() {
+            if (definition == null) {
+                throw new RuntimeException(error);
+            }
+            return definition;
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package core.container;
+
+import core.property.PropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Startup and per-bean instrumentation of a container.
+ *
+ * Metrics are disabled by default and enabled for every container whose property source, such
+ * as a system property or {@code application.properties}, sets {@value #ENABLED_PROPERTY} to
+ * {@code true}. A disabled container does not create this object at all; the factory's only
+ * remaining cost is a null check per lookup.
+ *
+ * When enabled, the container records the duration of each startup phase and, per
+ * {@link BeanDefinition}, the {@link BeanMetrics} of every lookup and creation.
+ * {@link #startupReport(int)} summarizes both, with beans sorted by self time, which is the
+ * cost a bean adds on top of its dependencies.
+ */
+public final class ContainerMetrics {
+
+    public static final String ENABLED_PROPERTY = "di.metrics";
+
+    private final Map<BeanDefinition, BeanMetrics> beans = new ConcurrentHashMap<>();
+    private final Map<String, Long> startupPhases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final ThreadLocal<CreationStack> creationStack = ThreadLocal.withInitial(CreationStack::new);
+
+    static boolean isEnabled(PropertySource properties) {
+        return properties.getProperty(ENABLED_PROPERTY).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    BeanMetrics forBean(BeanDefinition def) {
+        BeanMetrics metrics = beans.get(def);
+        return metrics != null ? metrics : beans.computeIfAbsent(def, BeanMetrics::new);
+    }
+
+    void recordStartupPhase(String phase, long nanos) {
+        startupPhases.put(phase, nanos);
+    }
+
+    /**
+     * Marks the start of a creation on the calling thread.
+     */
+    void enterCreation() {
+        creationStack.get().push();
+    }
+
+    /**
+     * Marks the end of a creation on the calling thread and returns the time its nested
+     * creations took, adding its own total to the enclosing creation.
+     */
+    long exitCreation(long totalNanos) {
+        return creationStack.get().pop(totalNanos);
+    }
+
+    /**
+     * @return the metrics of the given definition, if it has been looked up or created
+     */
+    public Optional<BeanMetrics> getBeanMetrics(BeanDefinition def) {
+        return Optional.ofNullable(beans.get(def));
+    }
+
+    /**
+     * @return the metrics of every bean that has been looked up or created, most expensive first
+     */
+    public List<BeanMetrics> getAllBeanMetrics() {
+        List<BeanMetrics> all = new ArrayList<>(beans.values());
+        all.sort(Comparator.comparingLong(BeanMetrics::getSelfNanos).reversed());
+        return all;
+    }
+
+    /**
+     * @return the duration of each startup phase in nanoseconds, in execution order
+     */
+    public Map<String, Long> getStartupPhases() {
+        synchronized (startupPhases) {
+            return new LinkedHashMap<>(startupPhases);
+        }
+    }
+
+    /**
+     * @return the time spent creating beans, summed across all threads; for beans created
+     *         concurrently this exceeds the elapsed wall time by the degree of parallelism
+     */
+    public long getTotalCreationNanos() {
+        long total = 0;
+        for (BeanMetrics metrics : beans.values()) {
+            total += metrics.getSelfNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Renders the startup phases followed by the most expensive beans.
+     *
+     * @param limit maximum number of beans to list
+     * @return a multi-line, human-readable report
+     */
+    public String startupReport(int limit) {
+        StringBuilder report = new StringBuilder("Container startup report\n");
+        getStartupPhases().forEach((phase, nanos) ->
+                report.append(String.format("  %-24s %10.3f ms%n", phase, nanos / 1e6)));
+        report.append(String.format("  %-24s %10.3f ms%n", "bean creation (cpu)", getTotalCreationNanos() / 1e6));
+
+        List<BeanMetrics> all = getAllBeanMetrics();
+        report.append(String.format("Beans by self time (%d of %d)%n", Math.min(limit, all.size()), all.size()));
+        for (BeanMetrics metrics : all.subList(0, Math.min(limit, all.size()))) {
+            report.append("  ").append(metrics).append('\n');
+        }
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return startupReport(20);
+    }
+
+    /**
+     * The time spent in nested creations, one slot per creation in progress on a thread.
+     */
+    private static final class CreationStack {
+        private long[] nestedNanos = new long[16];
+        private int depth;
+
+        void push() {
+            if (depth == nestedNanos.length) {
+                nestedNanos = Arrays.copyOf(nestedNanos, depth * 2);
+            }
+            nestedNanos[depth++] = 0L;
+        }
+
+        long pop(long totalNanos) {
+            long nested = nestedNanos[--depth];
+            if (depth > 0) {
+                nestedNanos[depth - 1] += totalNanos;
+            }
+            return nested;
+        }
+    }
+}
@@ -0,0 +1,479 @@
+package core.container;
+
+import core.annotations.Bean;
+import core.annotations.ConditionalOnClass;
+import core.annotations.Configuration;
+import core.condition.ConditionContext;
+import core.property.PropertySource;
+import core.property.PropertySources;
+import core.property.ValueExpression;
+import core.enums.ScopeType;
+import core.injection.GeneratedBeanFactory;
+import core.injection.InjectionPlan;
+import core.jfr.BeanRegistrationEvent;
+import core.jfr.ScanEvent;
+import core.scanner.BeanIndex;
+import core.scanner.ClassPathScanner;
+import core.scope.BeanPool;
+import core.scope.BeanScope;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * DIContainer is the central entry point of a simple dependency injection framework.
+ * It is responsible for managing the lifecycle of beans and their dependencies within the application.
+ * The container scans the provided base package for annotated classes, registers them, and
+ * provides a way to retrieve instances of these classes with their dependencies resolved.
+ *
+ * The lifecycle of the DIContainer involves:
+ * - Loading the compile-time BeanIndex to discover classes annotated with dependency injection annotations
+ *   (e.g., @Component or @Configuration) in the specified package, and falling back to the
+ *   ClassPathScanner when no index covers that package.
+ * - Creating BeanDefinitions for discovered classes using a BeanDefinitionFactory, dropping those whose
+ *   {@code @Profile} or other registration conditions do not match, and attaching the compile-time
+ *   GeneratedBeanFactory of a class when the build produced one. Factories are looked up through
+ *   the same class loader as the scanned bean classes.
+ * - Registering BeanDefinitions in the BeanRegistry and refreshing its type resolution index.
+ * - Building the DependencyGraph, which resolves every injection point once and rejects missing,
+ *   ambiguous and circular dependencies, and the InjectionPlan of every definition.
+ * - Utilizing the BeanFactory to manage creation and lifecycle of the beans.
+ * - Eagerly creating all non-lazy singletons in parallel, overlapping their asynchronous
+ *   {@code @PostConstruct} callbacks, and logging the startup time.
+ *
+ * Constructor:
+ * - Initializes the container by scanning the classpath for annotated classes in the given base package
+ *   and setting up the bean factory with the registered beans.
+ *
+ * Methods:
+ * - getBean(Class<T>): Retrieves an instance of the specified class type from the container.
+ *   If the class is not found or cannot be resolved, an exception may be thrown.
+ * - getBean(String, Class<T>): Retrieves the bean registered under the given qualifier, for types
+ *   with several beans.
+ * - getPool(Class<T>): Retrieves the object pool of a POOLED bean, for borrowing instances and
+ *   reading its hit, miss and eviction counts.
+ * - getMetrics(): Returns the startup and per-bean metrics of the container, if enabled with the
+ *   {@code di.metrics} property.
+ * - Startup snapshot: when the {@code di.snapshot} property names a file, the discovered bean
+ *   definitions are stored there and reused by later starts until the classpath changes.
+ * - getProperties(): Returns the layered properties that {@code @Value} injection points and
+ *   registration conditions are resolved against, loaded once per container hierarchy from the
+ *   system properties, the environment, the {@code di.config} file and {@code application.properties}.
+ * - registerScope(String, BeanScope): Registers a custom scope that beans can select with
+ *   {@code @Scope(name = ...)}.
+ * - endThreadScope(): Destroys the THREAD-scoped beans of the calling thread.
+ * - close(): Runs the {@code @PreDestroy} callbacks of the container's pooled, THREAD-scoped and
+ *   singleton beans, singletons in reverse dependency order with independent ones in parallel. Each
+ *   singleton gets the {@code di.shutdown.timeout} property's duration, in milliseconds unless
+ *   it has a unit (default 10000). Child containers should be closed before their parent.
+ *
+ * Container settings ({@code di.metrics}, {@code di.shutdown.timeout}, {@code di.snapshot},
+ * {@code di.index.ignore}, {@code di.scan.includes} and {@code di.scan.excludes}) are read from the
+ * same layered properties, so they can be set in any of its sources; only {@code di.config}, which
+ * names one of those sources, must be a system property.
+ * - registerShutdownHook(): Closes the container when the JVM shuts down, unless it was closed
+ *   explicitly before.
+ *
+ * Parent and child containers:
+ * - A container created with a parent only registers the classes of its base package that no
+ *   ancestor defines. Every other lookup falls back to the parent's resolution index and is served
+ *   by the parent's factory, so the parent's singletons are shared, not recreated.
+ * - A child whose base package lies within a package an ancestor has already discovered reuses
+ *   that result instead of scanning again, and the generated factories are loaded only once per
+ *   hierarchy. Injection plans of inherited definitions are the parent's, so creating a child only
+ *   costs the registration, graph and plans of its own beans.
+ *
+ * Usage of this container allows simplified dependency management, reducing the need for manual object instantiation
+ * and wiring while providing a centralized location for configuring and resolving dependencies.
+ */
+public class DIContainer implements AutoCloseable {
+
+    public static final String SHUTDOWN_TIMEOUT_PROPERTY = "di.shutdown.timeout";
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private static final System.Logger LOGGER = System.getLogger(DIContainer.class.getName());
+
+    private final String basePackage;
+    private final DIContainer parent;
+    private final BeanFactory factory;
+    private final BeanRegistry registry;
+    private final ContainerMetrics metrics;
+    private final Map<Class<?>, GeneratedBeanFactory<?>> generatedFactories;
+    private final DependencyGraph graph;
+    private final PropertySource properties;
+    private final Duration shutdownTimeout;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private Thread shutdownHook;
+
+    public DIContainer(String basePackage) throws  Exception {
+        this(basePackage, null);
+    }
+
+    /**
+     * Creates a child of the given container, holding the beans of the base package that the
+     * parent does not already define.
+     *
+     * @param parent container to fall back to for every other bean, or null for a root container
+     */
+    public DIContainer(String basePackage, DIContainer parent) throws Exception {
+        this.basePackage = basePackage;
+        this.parent = parent;
+        long phaseStart = System.nanoTime();
+        properties = parent != null ? parent.properties : PropertySources.standard(beanClassLoader());
+        metrics = ContainerMetrics.isEnabled(properties) ? new ContainerMetrics() : null;
+        shutdownTimeout = (Duration) ValueExpression.evaluate("${" + SHUTDOWN_TIMEOUT_PROPERTY + ":"
+                + DEFAULT_SHUTDOWN_TIMEOUT_MILLIS + "}", properties, Duration.class, SHUTDOWN_TIMEOUT_PROPERTY);
+        phaseStart = recordPhase("properties", phaseStart);
+        ConditionContext conditions = ConditionContext.forProperties(properties, beanClassLoader());
+
+        List<BeanDefinition> definitions;
+        if (parent != null) {
+            definitions = parent.coversPackage(basePackage) ? List.of() : discoverDefinitions(basePackage, properties, conditions);
+            definitions = parent.withoutInherited(definitions);
+            phaseStart = recordPhase("discovery", phaseStart);
+        } else {
+            Optional<StartupSnapshot> snapshot = StartupSnapshot.forPackage(basePackage, properties,
+                    beanClassLoader(), DIContainer.class.getClassLoader());
+            Optional<List<BeanDefinition>> snapshotDefinitions = snapshot.flatMap(sn -> sn.read(beanClassLoader(), conditions));
+            if (snapshotDefinitions.isPresent()) {
+                definitions = snapshotDefinitions.get();
+                phaseStart = recordPhase("snapshot load", phaseStart);
+            } else {
+                List<BeanDefinition> discovered = discoverDefinitions(basePackage, properties, conditions);
+                definitions = discovered;
+                phaseStart = recordPhase("discovery", phaseStart);
+                if (!conditions.hasEvaluatedCustomConditions()) {
+                    snapshot.ifPresent(sn -> sn.write(discovered, conditions.getRecordedInputs()));
+                }
+            }
+        }
+
+        // Discovery already skipped disabled classes; this applies the conditions of @Bean methods
+        definitions = definitions.stream()
+                .filter(def -> BeanDefinitionFactory.isEnabled(def, conditions))
+                .collect(Collectors.toList());
+        phaseStart = recordPhase("conditions", phaseStart);
+
+        generatedFactories = parent != null ? parent.generatedFactories : loadGeneratedFactories();
+        Map<Class<?>, Object> configInstances = new HashMap<>();
+
+        registry = new BeanRegistry(parent != null ? parent.registry : null, properties);
+        for (BeanDefinition def : definitions) {
+            BeanRegistrationEvent registrationEvent = new BeanRegistrationEvent();
+            registrationEvent.begin();
+
+            Optional<Method> factoryMethod = def.getFactoryMethod();
+            if (factoryMethod.isPresent()) {
+                Method method = factoryMethod.get();
+                registry.register(method.getReturnType(), def);
+                def.setFactoryInstance(configInstance(method.getDeclaringClass(), configInstances));
+            } else {
+                def.setGeneratedFactory(generatedFactories.get(def.getBeanClass()));
+                registry.register(def.getBeanClass(), def);
+            }
+
+            registrationEvent.commit(def);
+        }
+
+        registry.refresh();
+        phaseStart = recordPhase("registration", phaseStart);
+
+        graph = DependencyGraph.build(registry);
+        phaseStart = recordPhase("dependency graph", phaseStart);
+
+        for (BeanDefinition def : graph.getCreationOrder()) {
+            def.setInjectionPlan(InjectionPlan.forDefinition(def, registry));
+        }
+        phaseStart = recordPhase("injection plans", phaseStart);
+
+        this.factory = new BeanFactory(registry, metrics, parent != null ? parent.factory : null);
+
+        preInstantiateSingletons();
+        recordPhase("singleton creation", phaseStart);
+
+        if (metrics != null) {
+            LOGGER.log(System.Logger.Level.DEBUG, () -> metrics.startupReport(20));
+        }
+    }
+
+    /**
+     * Finds the component and configuration classes of the package, through the bean index when
+     * it covers the package and by scanning the classpath otherwise, and creates the definitions
+     * of those whose class-level conditions match, each class followed by the definitions of its
+     * {@code @Bean} methods.
+     *
+     * The conditions of a class are evaluated before its {@code @Bean} methods are reflected on,
+     * since their signatures may refer to the very classes a {@link ConditionalOnClass} guards
+     * against. Should reflection still fail to link a class guarded by {@link ConditionalOnClass},
+     * the class is skipped as if its condition had not matched; any other linkage failure is a
+     * broken classpath and fails discovery.
+     */
+    private static List<BeanDefinition> discoverDefinitions(String basePackage, PropertySource properties,
+                                                            ConditionContext conditions) {
+        Optional<BeanIndex> index = BeanIndex.load(DIContainer.class.getClassLoader(), properties)
+                .filter(i -> i.covers(basePackage));
+
+        ScanEvent scanEvent = new ScanEvent();
+        scanEvent.begin();
+        Set<Class<?>> discovered;
+        if (index.isPresent()) {
+            discovered = index.get().getClasses(basePackage);
+        } else {
+            ClassPathScanner scanner = new ClassPathScanner(properties);
+            discovered = scanner.scan(basePackage);
+        }
+        scanEvent.end();
+        if (scanEvent.shouldCommit()) {
+            scanEvent.basePackage = basePackage;
+            scanEvent.source = index.isPresent() ? "index" : "classpath";
+            scanEvent.classCount = discovered.size();
+            scanEvent.commit();
+        }
+
+        List<BeanDefinition> definitions = new ArrayList<>();
+        for (Class<?> clazz : discovered) {
+            if (!conditions.matches(clazz)) {
+                continue;
+            }
+
+            List<Method> beanMethods = List.of();
+            if (clazz.isAnnotationPresent(Configuration.class)) {
+                try {
+                    beanMethods = index.isPresent()
+                            ? index.get().getBeanMethods(clazz)
+                            : findBeanMethods(clazz);
+                } catch (LinkageError e) {
+                    if (!clazz.isAnnotationPresent(ConditionalOnClass.class)) {
+                        throw e;
+                    }
+                    LOGGER.log(System.Logger.Level.DEBUG, "Skipping " + clazz.getName()
+                            + ", its @Bean methods refer to missing classes: " + e);
+                    continue;
+                }
+            }
+
+            definitions.add(BeanDefinitionFactory.fromClass(clazz));
+            for (Method method : beanMethods) {
+                definitions.add(BeanDefinitionFactory.fromBeanMethod(clazz, method));
+            }
+        }
+        return definitions;
+    }
+
+    /**
+     * @return whether this container or one of its ancestors has discovered every class of the
+     *         given package, because it is the same package or a subpackage of theirs
+     */
+    private boolean coversPackage(String pkg) {
+        boolean covered = pkg.equals(basePackage) || pkg.startsWith(basePackage + ".");
+        return covered || (parent != null && parent.coversPackage(pkg));
+    }
+
+    /**
+     * Drops the definitions whose class, or whose declaring configuration class for {@code @Bean}
+     * methods, this container or an ancestor already defines.
+     */
+    private List<BeanDefinition> withoutInherited(List<BeanDefinition> definitions) {
+        List<BeanDefinition> own = new ArrayList<>(definitions.size());
+        for (BeanDefinition def : definitions) {
+            Class<?> owner = def.getFactoryMethod().<Class<?>>map(Method::getDeclaringClass).orElse(def.getBeanClass());
+            if (!registry.definesClass(owner)) {
+                own.add(def);
+            }
+        }
+        return own;
+    }
+
+    private static Object configInstance(Class<?> configClass, Map<Class<?>, Object> configInstances) throws Exception {
+        Object instance = configInstances.get(configClass);
+        if (instance == null) {
+            instance = configClass.getDeclaredConstructor().newInstance();
+            configInstances.put(configClass, instance);
+        }
+        return instance;
+    }
+
+    private static ClassLoader beanClassLoader() {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        return contextLoader != null ? contextLoader : DIContainer.class.getClassLoader();
+    }
+
+    private long recordPhase(String phase, long phaseStart) {
+        long now = System.nanoTime();
+        if (metrics != null) {
+            metrics.recordStartupPhase(phase, now - phaseStart);
+        }
+        return now;
+    }
+
+    /**
+     * Eagerly creates every singleton that is not marked {@code @Lazy}, so the first request does not
+     * pay for initialization. Singletons are created level by level along the dependency graph: the
+     * members of a level do not depend on each other and are created in parallel on the common
+     * ForkJoin pool, and every level only starts once all of its dependencies exist.
+     *
+     * Asynchronous {@code @PostConstruct} callbacks are not waited for level by level. Every
+     * definition gets a future that completes when it and everything it depends on is initialized;
+     * a singleton whose dependencies are still initializing is created once their futures
+     * complete, off the level loop, so only its own dependents wait for it. Startup returns once
+     * every future has completed.
+     */
+    private void preInstantiateSingletons() {
+        int count = 0;
+        long start = System.nanoTime();
+        Map<BeanDefinition, CompletableFuture<Void>> ready = new ConcurrentHashMap<>();
+        for (List<BeanDefinition> level : graph.getCreationLevels()) {
+            List<BeanDefinition> eager = new ArrayList<>();
+            for (BeanDefinition def : level) {
+                if (def.getScope() == ScopeType.SINGLETON && !def.isLazy()) {
+                    eager.add(def);
+                } else {
+                    // Created on demand, but its dependents must still wait for its dependencies
+                    ready.put(def, dependenciesReady(def, ready));
+                }
+            }
+            eager.parallelStream().forEach(def -> ready.put(def, preInstantiate(def, ready)));
+            count += eager.size();
+        }
+        try {
+            CompletableFuture.allOf(ready.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        long wallNanos = System.nanoTime() - start;
+        int eagerCount = count;
+
+        if (metrics == null) {
+            LOGGER.log(System.Logger.Level.INFO, () -> String.format(
+                    "Pre-instantiated %d singletons in %.2f ms", eagerCount, wallNanos / 1_000_000.0));
+        } else {
+            LOGGER.log(System.Logger.Level.INFO, () -> String.format(
+                    "Pre-instantiated %d singletons in %.2f ms (sequential creation time %.2f ms)",
+                    eagerCount, wallNanos / 1_000_000.0, metrics.getTotalCreationNanos() / 1_000_000.0));
+        }
+    }
+
+    private CompletableFuture<Void> preInstantiate(BeanDefinition def, Map<BeanDefinition, CompletableFuture<Void>> ready) {
+        CompletableFuture<Void> dependencies = dependenciesReady(def, ready);
+        if (dependencies.isDone() && !dependencies.isCompletedExceptionally()) {
+            return factory.preInstantiate(def);
+        }
+        return dependencies.thenComposeAsync(ignored -> factory.preInstantiate(def));
+    }
+
+    /**
+     * @return a future of the dependencies of the definition that are still initializing, or
+     *         have failed to; dependencies inherited from a parent are always ready
+     */
+    private CompletableFuture<Void> dependenciesReady(BeanDefinition def, Map<BeanDefinition, CompletableFuture<Void>> ready) {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (BeanDefinition dependency : graph.getDependencies(def)) {
+            CompletableFuture<Void> future = ready.get(dependency);
+            if (future != null && (!future.isDone() || future.isCompletedExceptionally())) {
+                pending.add(future);
+            }
+        }
+        return pending.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private static Map<Class<?>, GeneratedBeanFactory<?>> loadGeneratedFactories() {
+        Map<Class<?>, GeneratedBeanFactory<?>> factories = new HashMap<>();
+        for (GeneratedBeanFactory<?> factory : ServiceLoader.load(GeneratedBeanFactory.class, beanClassLoader())) {
+            factories.put(factory.beanType(), factory);
+        }
+        return factories;
+    }
+
+    private static List<Method> findBeanMethods(Class<?> configClass) {
+        List<Method> beanMethods = new ArrayList<>();
+        for (Method method : configClass.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Bean.class)) {
+                beanMethods.add(method);
+            }
+        }
+        return beanMethods;
+    }
+
+    public <T> T getBean(String name, Class<T> clazz) {
+        return clazz.cast(factory.getBean(name, clazz));
+    }
+
+    public PropertySource getProperties() {
+        return properties;
+    }
+
+    public Optional<DIContainer> getParent() {
+        return Optional.ofNullable(parent);
+    }
+
+    public <T> T getBean(Class<T> clazz) {
+        return clazz.cast(factory.getBean(clazz));
+    }
+
+    public Optional<ContainerMetrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+
+    public Optional<BeanMetrics> getBeanMetrics(Class<?> clazz) {
+        return getMetrics().flatMap(m -> m.getBeanMetrics(registry.resolve(clazz)));
+    }
+
+    public void registerScope(String name, BeanScope scope) {
+        factory.registerScope(name, scope);
+    }
+
+    public void endThreadScope() {
+        factory.getThreadScope().end();
+    }
+
+    /**
+     * Destroys the beans of this container. Only the first call has an effect.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        removeShutdownHook();
+
+        long start = System.nanoTime();
+        factory.destroyAll(graph, shutdownTimeout.toMillis());
+        LOGGER.log(System.Logger.Level.INFO, () -> String.format(
+                "Closed container for %s in %.2f ms", basePackage, (System.nanoTime() - start) / 1_000_000.0));
+    }
+
+    /**
+     * Registers a JVM shutdown hook that closes this container. Calling this more than once has
+     * no further effect.
+     */
+    public synchronized void registerShutdownHook() {
+        if (shutdownHook == null && !closed.get()) {
+            shutdownHook = new Thread(this::close, "di-shutdown-" + basePackage);
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    private synchronized void removeShutdownHook() {
+        if (shutdownHook != null && Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // The JVM is already shutting down and will run the hook, which returns at once
+            }
+        }
+        shutdownHook = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> BeanPool<T> getPool(Class<T> clazz) {
+        return (BeanPool<T>) factory.getPool(registry.resolve(clazz));
+    }
+}
@@ -0,0 +1,197 @@
+package core.container;
+
+import core.enums.ScopeType;
+import core.injection.InjectionPoint;
+
+import java.util.*;
+
+/**
+ * The dependency graph of all registered bean definitions, built once when the container
+ * refreshes.
+ *
+ * Every injection point of every definition (fields, constructor parameters and {@code @Bean}
+ * method parameters) is resolved exactly once while the graph is built; a {@code List} or
+ * {@code Map} injection point depends on every bean it collects. Missing and ambiguous
+ * dependencies therefore fail the refresh instead of the first request that touches them, and
+ * circular dependencies are reported with the full path instead of overflowing the stack.
+ * {@code @Lazy} and provider injection points are validated but do not create an edge, since
+ * their target is only obtained on use. A singleton may not inject a THREAD, CONTEXT or
+ * custom-scoped bean directly, since it would keep the instance of a single scope forever; a
+ * lazy proxy or a provider looks the bean up again on every use, so either one is allowed.
+ *
+ * The graph also provides the creation order: a topological order in which every definition
+ * comes after all of its dependencies, grouped into levels whose members do not depend on each
+ * other and can be created concurrently.
+ *
+ * For the registry of a child context only the child's own definitions are nodes of the graph.
+ * Their dependencies may resolve to definitions of an ancestor, which already exist and were
+ * validated with the ancestor's graph, so they never appear in the creation order.
+ */
+public final class DependencyGraph {
+
+    private final Map<BeanDefinition, List<BeanDefinition>> dependencies;
+    private final List<List<BeanDefinition>> creationLevels;
+
+    private DependencyGraph(Map<BeanDefinition, List<BeanDefinition>> dependencies,
+                            List<List<BeanDefinition>> creationLevels) {
+        this.dependencies = dependencies;
+        this.creationLevels = creationLevels;
+    }
+
+    /**
+     * Resolves the injection points of every registered definition and orders the definitions.
+     *
+     * @param registry registry whose resolution index has been refreshed
+     * @return the validated dependency graph
+     * @throws RuntimeException if a dependency cannot be resolved or the graph contains a cycle
+     */
+    public static DependencyGraph build(BeanRegistry registry) {
+        Map<BeanDefinition, List<BeanDefinition>> dependencies = new LinkedHashMap<>();
+        for (BeanDefinition def : registry.getAllDefinitions()) {
+            List<BeanDefinition> targets = new ArrayList<>();
+            for (InjectionPoint point : InjectionPoint.forDefinition(def)) {
+                for (BeanDefinition target : point.resolveTargets(registry)) {
+                    if (point.isStartupDependency()) {
+                        checkScopes(def, target, point);
+                        targets.add(target);
+                    }
+                }
+            }
+            dependencies.put(def, List.copyOf(targets));
+        }
+
+        Map<BeanDefinition, Integer> levels = computeLevels(dependencies);
+
+        List<List<BeanDefinition>> creationLevels = new ArrayList<>();
+        for (Map.Entry<BeanDefinition, Integer> entry : levels.entrySet()) {
+            while (creationLevels.size() <= entry.getValue()) {
+                creationLevels.add(new ArrayList<>());
+            }
+            creationLevels.get(entry.getValue()).add(entry.getKey());
+        }
+        creationLevels.replaceAll(List::copyOf);
+
+        return new DependencyGraph(dependencies, List.copyOf(creationLevels));
+    }
+
+    /**
+     * A singleton is created once, so a THREAD, CONTEXT or custom-scoped bean injected into it
+     * directly would be captured from whichever scope happened to be active at that moment.
+     */
+    private static void checkScopes(BeanDefinition def, BeanDefinition target, InjectionPoint point) {
+        boolean shortLived = target.getScope() == ScopeType.THREAD || target.getScope() == ScopeType.CONTEXT
+                || target.getScope() == ScopeType.CUSTOM;
+        if (def.getScope() == ScopeType.SINGLETON && shortLived) {
+            throw new RuntimeException("Singleton " + def + " cannot inject " + target.getScope() + "-scoped bean "
+                    + target + " directly at " + point + "; inject a Provider or a @Lazy interface instead");
+        }
+    }
+
+    /**
+     * Depth-first walk that assigns each definition one level above its deepest dependency. The
+     * walk keeps its path on an explicit stack, so a long chain of dependencies cannot overflow
+     * the thread's stack; definitions on the path are still being visited, so reaching one of
+     * them again closes a cycle.
+     *
+     * @return the level of every definition, in registration order
+     */
+    private static Map<BeanDefinition, Integer> computeLevels(Map<BeanDefinition, List<BeanDefinition>> dependencies) {
+        Map<BeanDefinition, Integer> computed = new HashMap<>();
+        Deque<Visit> path = new ArrayDeque<>();
+        Set<BeanDefinition> onPath = new HashSet<>();
+        for (BeanDefinition root : dependencies.keySet()) {
+            if (computed.containsKey(root)) {
+                continue;
+            }
+            path.addLast(new Visit(root, dependencies.get(root)));
+            onPath.add(root);
+            while (!path.isEmpty()) {
+                Visit visit = path.getLast();
+                if (visit.next < visit.dependencies.size()) {
+                    BeanDefinition dependency = visit.dependencies.get(visit.next++);
+                    if (!dependencies.containsKey(dependency)) {
+                        continue; // inherited from a parent context, which already created it
+                    }
+                    Integer known = computed.get(dependency);
+                    if (known != null) {
+                        visit.level = Math.max(visit.level, known + 1);
+                    } else if (onPath.contains(dependency)) {
+                        throw new RuntimeException("Circular dependency between beans: " + describeCycle(path, dependency));
+                    } else {
+                        path.addLast(new Visit(dependency, dependencies.get(dependency)));
+                        onPath.add(dependency);
+                    }
+                } else {
+                    path.removeLast();
+                    onPath.remove(visit.def);
+                    computed.put(visit.def, visit.level);
+                    if (!path.isEmpty()) {
+                        path.getLast().level = Math.max(path.getLast().level, visit.level + 1);
+                    }
+                }
+            }
+        }
+
+        Map<BeanDefinition, Integer> levels = new LinkedHashMap<>();
+        for (BeanDefinition def : dependencies.keySet()) {
+            levels.put(def, computed.get(def));
+        }
+        return levels;
+    }
+
+    /**
+     * A definition on the path of the depth-first walk, with the index of the next dependency to
+     * visit and the highest level required by the dependencies visited so far.
+     */
+    private static final class Visit {
+        final BeanDefinition def;
+        final List<BeanDefinition> dependencies;
+        int next;
+        int level;
+
+        Visit(BeanDefinition def, List<BeanDefinition> dependencies) {
+            this.def = def;
+            this.dependencies = dependencies;
+        }
+    }
+
+    private static String describeCycle(Deque<Visit> path, BeanDefinition repeated) {
+        StringJoiner cycle = new StringJoiner(" -> ");
+        boolean inCycle = false;
+        for (Visit visit : path) {
+            BeanDefinition def = visit.def;
+            inCycle |= def == repeated;
+            if (inCycle) {
+                cycle.add(def.toString());
+            }
+        }
+        cycle.add(repeated.toString());
+        return cycle.toString();
+    }
+
+    /**
+     * @param def a registered definition
+     * @return the definitions the given one depends on directly, in injection order
+     */
+    public List<BeanDefinition> getDependencies(BeanDefinition def) {
+        return dependencies.getOrDefault(def, List.of());
+    }
+
+    /**
+     * @return all definitions in an order where every definition follows its dependencies
+     */
+    public List<BeanDefinition> getCreationOrder() {
+        List<BeanDefinition> order = new ArrayList<>(dependencies.size());
+        creationLevels.forEach(order::addAll);
+        return order;
+    }
+
+    /**
+     * @return the definitions grouped by depth in the graph; definitions in the same level
+     *         never depend on each other, and each level only depends on earlier ones; within a
+     *         level, definitions keep their registration order
+     */
+    public List<List<BeanDefinition>> getCreationLevels() {
+        return creationLevels;
+    }
+}
@@ -0,0 +1,331 @@
+package core.container;
+
+import core.condition.ConditionContext;
+import core.enums.ScopeType;
+import core.property.PropertySource;
+import core.scanner.BeanIndex;
+import core.scanner.ClassPathRoots;
+import core.scanner.ClassPathScanner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Opt-in on-disk snapshot of the bean definitions discovered for a base package, so that later
+ * starts skip classpath scanning and annotation processing of unchanged classes.
+ *
+ * The snapshot is enabled by setting the {@value #PATH_PROPERTY} property of the container to the
+ * file it should live in. The file holds a compact binary record of every definition: bean class, scope,
+ * lazy and primary flags, qualifier, and for {@code @Bean} definitions the declaring method. It
+ * is read through a memory-mapped buffer, and the definitions are rebuilt by loading only the
+ * listed classes.
+ *
+ * Every snapshot is keyed by a hash of the base package, the discovery settings (the
+ * {@value ClassPathScanner#INCLUDES_PROPERTY}, {@value ClassPathScanner#EXCLUDES_PROPERTY} and
+ * {@value BeanIndex#IGNORE_PROPERTY} properties) and the classpath roots the discovery class
+ * loaders report for the base package and for the bean index: the size and modification time of
+ * every file below the package in a directory root, and of every jar root. A snapshot whose key
+ * does not match, or that lists a class or method that no longer exists, is ignored and rewritten
+ * after the next scan.
+ *
+ * Discovery skips classes whose registration conditions do not match, so the snapshot also lists
+ * every profile, property and class the conditions consulted, with the answer each gave. The
+ * snapshot is only used while all of them still give the same answer.
+ */
+final class StartupSnapshot {
+
+    static final String PATH_PROPERTY = "di.snapshot";
+
+    private static final int MAGIC = 0x44495332; // "DIS2"
+    private static final byte CLASS_ENTRY = 0;
+    private static final byte METHOD_ENTRY = 1;
+
+    private static final System.Logger LOGGER = System.getLogger(StartupSnapshot.class.getName());
+
+    private final Path file;
+    private final byte[] key;
+
+    private StartupSnapshot(Path file, byte[] key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * @param properties  properties of the container, naming the file and the discovery settings
+     * @param scanLoader  class loader whose roots the classpath scanner walks
+     * @param indexLoader class loader the bean index is read from
+     * @return the snapshot for the given base package, if enabled through {@value #PATH_PROPERTY}
+     */
+    static Optional<StartupSnapshot> forPackage(String basePackage, PropertySource properties,
+                                                ClassLoader scanLoader, ClassLoader indexLoader) {
+        Optional<String> location = properties.getProperty(PATH_PROPERTY).filter(path -> !path.isEmpty());
+        if (location.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new StartupSnapshot(Paths.get(location.get()),
+                classpathKey(basePackage, properties, scanLoader, indexLoader)));
+    }
+
+    /**
+     * Reads the definitions recorded in the snapshot file.
+     *
+     * @param classLoader class loader of the recorded bean classes
+     * @param conditions  conditions of the current start, checked against the recorded inputs
+     * @return the definitions, or empty if the file is missing, stale or unreadable
+     */
+    Optional<List<BeanDefinition>> read(ClassLoader classLoader, ConditionContext conditions) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || !Arrays.equals(readBytes(buffer), key)) {
+                return Optional.empty();
+            }
+            if (!conditions.answersAlike(readInputs(buffer))) {
+                return Optional.empty();
+            }
+
+            int count = buffer.getInt();
+            List<BeanDefinition> definitions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                definitions.add(readDefinition(buffer, classLoader));
+            }
+            return Optional.of(definitions);
+        } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Ignoring unusable startup snapshot " + file + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> readInputs(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        Map<String, String> inputs = new LinkedHashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            String key = readString(buffer);
+            inputs.put(key, buffer.get() != 0 ? readString(buffer) : null);
+        }
+        return inputs;
+    }
+
+    private static BeanDefinition readDefinition(ByteBuffer buffer, ClassLoader classLoader)
+            throws ReflectiveOperationException {
+        byte kind = buffer.get();
+        Class<?> beanClass = Class.forName(readString(buffer), false, classLoader);
+        ScopeType scope = ScopeType.valueOf(readString(buffer));
+        String scopeName = readString(buffer);
+        boolean lazy = buffer.get() != 0;
+        boolean primary = buffer.get() != 0;
+        String qualifier = readString(buffer);
+
+        Optional<Method> factoryMethod = Optional.empty();
+        if (kind == METHOD_ENTRY) {
+            Class<?> owner = Class.forName(readString(buffer), false, classLoader);
+            String name = readString(buffer);
+            Class<?>[] parameterTypes = new Class<?>[buffer.getInt()];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = typeForName(readString(buffer), classLoader);
+            }
+            factoryMethod = Optional.of(owner.getDeclaredMethod(name, parameterTypes));
+        }
+        return new BeanDefinition(beanClass, scope, scopeName, lazy, primary, qualifier, factoryMethod);
+    }
+
+    /**
+     * Replaces the snapshot file with the given definitions. Failures are logged and otherwise
+     * ignored, since the snapshot is only an optimization.
+     *
+     * @param inputs condition inputs consulted by the discovery that produced the definitions
+     */
+    void write(List<BeanDefinition> definitions, Map<String, String> inputs) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            writeBytes(out, key);
+            out.writeInt(inputs.size());
+            for (Map.Entry<String, String> input : inputs.entrySet()) {
+                writeString(out, input.getKey());
+                out.writeByte(input.getValue() != null ? 1 : 0);
+                if (input.getValue() != null) {
+                    writeString(out, input.getValue());
+                }
+            }
+            out.writeInt(definitions.size());
+            for (BeanDefinition def : definitions) {
+                writeDefinition(out, def);
+            }
+            out.flush();
+
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Failed to write startup snapshot " + file + ": " + e);
+        }
+    }
+
+    private static void writeDefinition(DataOutputStream out, BeanDefinition def) throws IOException {
+        Optional<Method> factoryMethod = def.getFactoryMethod();
+        out.writeByte(factoryMethod.isPresent() ? METHOD_ENTRY : CLASS_ENTRY);
+        writeString(out, def.getBeanClass().getName());
+        writeString(out, def.getScope().name());
+        writeString(out, def.getScopeName());
+        out.writeByte(def.isLazy() ? 1 : 0);
+        out.writeByte(def.isPrimary() ? 1 : 0);
+        writeString(out, def.getQualifier());
+
+        if (factoryMethod.isPresent()) {
+            Method method = factoryMethod.get();
+            writeString(out, method.getDeclaringClass().getName());
+            writeString(out, method.getName());
+            out.writeInt(method.getParameterCount());
+            for (Class<?> type : method.getParameterTypes()) {
+                writeString(out, type.getName());
+            }
+        }
+    }
+
+    /**
+     * Hashes everything that can change the outcome of a scan of the given package.
+     */
+    private static byte[] classpathKey(String basePackage, PropertySource properties,
+                                       ClassLoader scanLoader, ClassLoader indexLoader) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, basePackage);
+        update(digest, String.valueOf(properties.getProperty(ClassPathScanner.INCLUDES_PROPERTY).orElse(null)));
+        update(digest, String.valueOf(properties.getProperty(ClassPathScanner.EXCLUDES_PROPERTY).orElse(null)));
+        update(digest, String.valueOf(BeanIndex.isIgnored(properties)));
+
+        try {
+            hashRoots(digest, ClassPathRoots.find(scanLoader, basePackage.replace('.', '/')));
+            hashRoots(digest, Collections.list(indexLoader.getResources(BeanIndex.LOCATION)));
+        } catch (IOException e) {
+            update(digest, "unreadable:" + e.getMessage());
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Hashes the given roots of a resource: the file tree of a directory or the attributes of a
+     * single file, and the attributes of the jar of a jar entry.
+     */
+    private static void hashRoots(MessageDigest digest, List<URL> roots) {
+        for (URL root : roots) {
+            update(digest, root.toString());
+            try {
+                switch (root.getProtocol()) {
+                    case "file":
+                        Path path = Paths.get(root.toURI());
+                        if (Files.isDirectory(path)) {
+                            hashTree(digest, path);
+                        } else {
+                            hashFile(digest, path);
+                        }
+                        break;
+                    case "jar":
+                        String location = root.toURI().getSchemeSpecificPart();
+                        hashFile(digest, Paths.get(new URL(location.substring(0, location.indexOf("!/"))).toURI()));
+                        break;
+                    default:
+                        // Roots that cannot be inspected never validate a snapshot
+                        update(digest, String.valueOf(System.nanoTime()));
+                }
+            } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+                update(digest, "unreadable:" + e.getMessage());
+            }
+        }
+    }
+
+    private static void hashTree(MessageDigest digest, Path root) {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(Files::isRegularFile).sorted().forEach(file -> {
+                update(digest, root.relativize(file).toString());
+                hashFile(digest, file);
+            });
+        } catch (IOException e) {
+            update(digest, "unreadable:" + e.getMessage());
+        }
+    }
+
+    private static void hashFile(MessageDigest digest, Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            update(digest, attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            update(digest, "missing");
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static Class<?> typeForName(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        switch (name) {
+            case "boolean": return boolean.class;
+            case "byte": return byte.class;
+            case "char": return char.class;
+            case "short": return short.class;
+            case "int": return int.class;
+            case "long": return long.class;
+            case "float": return float.class;
+            case "double": return double.class;
+            default: return Class.forName(name, false, classLoader);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return value;
+    }
+}
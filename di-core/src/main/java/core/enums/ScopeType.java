@@ -0,0 +1,43 @@
+package core.enums;
+
+/**
+ * Defines the scope for a component or bean managed by a dependency injection
+ * framework. The scope determines the lifecycle and instantiation behavior of
+ * the managed object.
+ *
+ * Types of scopes:
+ * - SINGLETON: A single instance of the component or bean is created and shared
+ *   throughout the lifecycle of the application context. This is the default scope
+ *   in most dependency injection frameworks.
+ * - PROTOTYPE: A new instance of the component or bean is created each time it
+ *   is requested from the application context.
+ * - POOLED: Instances are borrowed from a bounded per-bean object pool and returned
+ *   to it after use, so expensive objects are reused instead of being created per
+ *   request. The pool is configured with {@link core.annotations.Pooled}. A pooled
+ *   bean injected into another bean is borrowed for the lifetime of that bean and
+ *   is never returned.
+ * - THREAD: One instance is created per thread and reused by every lookup on that
+ *   thread until the thread ends its scope.
+ * - CONTEXT: One instance is created per {@link core.scope.ScopeContext}, a unit of
+ *   work such as a request that may span several threads. Looking up a CONTEXT bean
+ *   outside of an active context fails.
+ * - CUSTOM: Instances are stored by a {@link core.scope.BeanScope} registered with
+ *   the application context under the name given by {@code @Scope(name = ...)},
+ *   which is required for this scope.
+ *
+ * THREAD and CONTEXT instances are destroyed, running their {@code @PreDestroy}
+ * callbacks, when their scope ends. Singletons must not depend on them, or on CUSTOM
+ * instances, directly and should inject a {@code Provider} or a {@code @Lazy}
+ * interface instead.
+ *
+ * These scope types are typically used in conjunction with dependency injection
+ * configuration mechanisms such as annotations or framework APIs.
+ */
+public enum ScopeType {
+    SINGLETON,
+    PROTOTYPE,
+    POOLED,
+    THREAD,
+    CONTEXT,
+    CUSTOM
+}
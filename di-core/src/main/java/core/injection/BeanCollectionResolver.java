@@ -0,0 +1,83 @@
+package core.injection;
+
+import core.container.BeanDefinition;
+import core.container.BeanFactory;
+import core.enums.ScopeType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolver of a {@code List<T>} or {@code Map<String, T>} injection point, bound to the
+ * definitions of every bean of type {@code T} in their {@code @Order}.
+ *
+ * Lists are handed out as unmodifiable views of an array of the instances, and maps as
+ * unmodifiable maps in the same order, keyed by each bean's qualifier or, for beans without
+ * one, by its name. When every element is a singleton the collection is built on first use and
+ * the same instance is injected everywhere afterwards; otherwise it is rebuilt for every
+ * injection so each one gets its own prototype or scoped instances.
+ */
+final class BeanCollectionResolver implements DependencyResolver {
+
+    private final BeanDefinition[] targets;
+    private final String[] keys;
+    private final boolean cacheable;
+    private volatile Object snapshot;
+
+    private BeanCollectionResolver(List<BeanDefinition> targets, String[] keys) {
+        this.targets = targets.toArray(new BeanDefinition[0]);
+        this.keys = keys;
+        this.cacheable = targets.stream().allMatch(def -> def.getScope() == ScopeType.SINGLETON);
+    }
+
+    static BeanCollectionResolver forList(List<BeanDefinition> targets) {
+        return new BeanCollectionResolver(targets, null);
+    }
+
+    /**
+     * @throws RuntimeException if two of the beans share a key
+     */
+    static BeanCollectionResolver forMap(List<BeanDefinition> targets, String description) {
+        String[] keys = new String[targets.size()];
+        for (int i = 0; i < keys.length; i++) {
+            BeanDefinition def = targets.get(i);
+            keys[i] = def.getQualifier().isEmpty() ? def.getName() : def.getQualifier();
+            for (int j = 0; j < i; j++) {
+                if (keys[j].equals(keys[i])) {
+                    throw new RuntimeException("Duplicate key '" + keys[i] + "' for " + description
+                            + ": " + targets.get(j) + " and " + def);
+                }
+            }
+        }
+        return new BeanCollectionResolver(targets, keys);
+    }
+
+    @Override
+    public Object resolve(BeanFactory factory) {
+        Object cached = snapshot;
+        if (cached != null) {
+            return cached;
+        }
+
+        Object[] beans = new Object[targets.length];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = factory.getBean(targets[i]);
+        }
+        Object collection = keys == null ? Collections.unmodifiableList(Arrays.asList(beans)) : toMap(beans);
+        if (cacheable) {
+            snapshot = collection;
+        }
+        return collection;
+    }
+
+    private Map<String, Object> toMap(Object[] beans) {
+        Map<String, Object> map = new LinkedHashMap<>(beans.length * 2);
+        for (int i = 0; i < beans.length; i++) {
+            map.put(keys[i], beans[i]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,36 @@
+package core.injection;
+
+import core.container.BeanDefinition;
+import core.container.BeanFactory;
+
+/**
+ * The {@link Provider} and {@link ObjectFactory} implementation injected by the container,
+ * bound to a resolved definition. Each call goes straight to the factory's per-definition
+ * creation path: the singleton cache for singletons, the injection plan for prototypes.
+ */
+final class BoundProvider<T> implements Provider<T>, ObjectFactory<T> {
+
+    private final BeanFactory factory;
+    private final BeanDefinition definition;
+
+    BoundProvider(BeanFactory factory, BeanDefinition definition) {
+        this.factory = factory;
+        this.definition = definition;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        return (T) factory.getBean(definition);
+    }
+
+    @Override
+    public T getObject() {
+        return get();
+    }
+
+    @Override
+    public String toString() {
+        return "Provider<" + definition + ">";
+    }
+}
@@ -0,0 +1,86 @@
+package core.injection;
+
+import core.annotations.Inject;
+import core.container.BeanDefinition;
+import core.container.BeanRegistry;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+
+/**
+ * The ConstructorInjector class is responsible for selecting the constructor through which
+ * instances of a bean are created. This class plays a crucial role in the dependency injection
+ * process by identifying constructors annotated with {@code @Inject} and turning them into
+ * method handles that an {@link InjectionPlan} can invoke repeatedly.
+ *
+ * Primary responsibilities:
+ * - Scans the bean's declared constructors to find one annotated with {@code @Inject}.
+ * - Uses the annotated constructor if found, or the only constructor of a class that declares
+ *   exactly one.
+ * - Falls back to the default no-argument constructor otherwise.
+ * - Ensures that constructors are accessible, even if they are declared as private.
+ * - Resolves the parameters of the constructor, or of a {@code @Bean} factory method, into
+ *   {@link DependencyResolver}s once, so that creating an instance only evaluates them.
+ *
+ * Error Handling:
+ * - If the constructor cannot be found or made accessible, or one of its parameters cannot be
+ *   resolved, a {@code RuntimeException} is thrown with details of the failure, including the
+ *   problematic bean class or parameter.
+ *
+ * Notes:
+ * - The {@code constructorHandle} and {@code argumentResolvers} methods are called once per bean
+ *   definition while its {@link InjectionPlan} is built; creating instances afterwards only
+ *   evaluates the resolvers and invokes the handle.
+ * - This class assumes that the {@link BeanDefinition} parameter provides the necessary metadata
+ *   about the bean, including its type, from which the appropriate constructor can be determined.
+ */
+public class ConstructorInjector {
+
+    public static MethodHandle constructorHandle(Constructor<?> constructor) {
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create bean: " + constructor.getDeclaringClass(), e);
+        }
+    }
+
+    public static Constructor<?> findConstructor(Class<?> beanClass) {
+        Constructor<?>[] constructors = beanClass.getDeclaredConstructors();
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isAnnotationPresent(Inject.class)) {
+                constructor.setAccessible(true);
+                return constructor;
+            }
+        }
+
+        if (constructors.length == 1) {
+            constructors[0].setAccessible(true);
+            return constructors[0];
+        }
+
+        try {
+            Constructor<?> defaultConstructor = beanClass.getDeclaredConstructor();
+            defaultConstructor.setAccessible(true);
+            return defaultConstructor;
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException("No @Inject or no-argument constructor found for bean: " + beanClass, e);
+        }
+    }
+
+    /**
+     * Resolves every parameter of a constructor or factory method once.
+     *
+     * @param executable injection constructor or {@code @Bean} method
+     * @param registry registry whose resolution index has been refreshed
+     * @return one resolver per parameter, in parameter order
+     */
+    public static DependencyResolver[] argumentResolvers(Executable executable, BeanRegistry registry) {
+        DependencyResolver[] resolvers = new DependencyResolver[executable.getParameterCount()];
+        for (int i = 0; i < resolvers.length; i++) {
+            resolvers[i] = InjectionPoint.forParameter(executable, i).resolver(registry);
+        }
+        return resolvers;
+    }
+}
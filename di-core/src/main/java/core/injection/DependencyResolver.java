@@ -0,0 +1,14 @@
+package core.injection;
+
+import core.container.BeanFactory;
+
+/**
+ * Supplies the value for a single injection point. Resolvers are created once per injection
+ * point while the {@link InjectionPlan} is built, already bound to the definition they inject,
+ * so resolving a dependency never consults the registry.
+ */
+@FunctionalInterface
+public interface DependencyResolver {
+
+    Object resolve(BeanFactory factory);
+}
@@ -0,0 +1,90 @@
+package core.injection;
+
+import core.annotations.Inject;
+import core.annotations.Value;
+import core.container.BeanFactory;
+import core.container.BeanRegistry;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A utility class responsible for preparing field-based dependency injection.
+ * The {@code FieldInjector} class scans all declared fields of a bean class once
+ * and turns every field annotated with {@code @Inject} or {@code @Value} into an {@link InjectableField}:
+ * a setter method handle paired with the resolver bound to the field's dependency.
+ * The dependency instances are provided by the {@code BeanFactory} when the field is injected.
+ *
+ * This class relies on reflection to discover the fields, making all annotated
+ * fields accessible regardless of their visibility modifiers. Static fields are
+ * not injected.
+ *
+ * Typical usage of this class occurs while an {@link InjectionPlan} is built for
+ * a bean definition.
+ *
+ * Exceptions:
+ * - Throws a {@link RuntimeException} if field injection fails for any reason,
+ *   such as no available bean matching the field type or access issues.
+ */
+public class FieldInjector {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    public static List<Field> findInjectableFields(Class<?> beanClass) {
+        List<Field> injectable = new ArrayList<>();
+        for (Field field : beanClass.getDeclaredFields()) {
+            boolean annotated = field.isAnnotationPresent(Inject.class) || field.isAnnotationPresent(Value.class);
+            if (annotated && !Modifier.isStatic(field.getModifiers())) {
+                injectable.add(field);
+            }
+        }
+        return injectable;
+    }
+
+    public static InjectableField[] injectableFields(Class<?> beanClass, BeanRegistry registry) {
+        List<InjectableField> injectable = new ArrayList<>();
+
+        for (Field field : findInjectableFields(beanClass)) {
+            DependencyResolver resolver = InjectionPoint.forField(field).resolver(registry);
+            try {
+                field.setAccessible(true);
+                MethodHandle setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+                injectable.add(new InjectableField(field.getName(), resolver, setter));
+            } catch (Exception e) {
+                throw new RuntimeException("Field injection failed for: " + field.getName(), e);
+            }
+        }
+        return injectable.toArray(new InjectableField[0]);
+    }
+
+    /**
+     * A single {@code @Inject} field of a bean class.
+     */
+    public static final class InjectableField {
+        private final String name;
+        private final DependencyResolver resolver;
+        private final MethodHandle setter;
+
+        InjectableField(String name, DependencyResolver resolver, MethodHandle setter) {
+            this.name = name;
+            this.resolver = resolver;
+            this.setter = setter;
+        }
+
+        public String getName() { return name; }
+
+        public void inject(Object instance, BeanFactory factory) {
+            try {
+                Object dependency = resolver.resolve(factory);
+                setter.invokeExact(instance, dependency);
+            } catch (Throwable e) {
+                throw new RuntimeException("Field injection failed for: " + name, e);
+            }
+        }
+    }
+}
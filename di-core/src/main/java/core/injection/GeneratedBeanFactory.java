@@ -0,0 +1,31 @@
+package core.injection;
+
+import core.container.BeanFactory;
+
+/**
+ * Reflection-free factory for a single component class, generated at compile time by
+ * {@code core.processor.BeanFactoryProcessor} when the build runs with {@code -Adi.factories=true}.
+ *
+ * A generated factory calls the bean's constructor directly, assigns its {@code @Inject} fields
+ * and calls its lifecycle callbacks as plain Java code, which lets the JIT inline the whole
+ * creation path and lets the container run where reflective access is restricted (for example
+ * in a GraalVM native image). Factories are generated only for classes whose constructor,
+ * injected fields and callbacks are not private; all other classes are created through the
+ * reflective {@link InjectionPlan}.
+ *
+ * Generated factories are registered as {@link java.util.ServiceLoader} providers of this interface.
+ *
+ * @param <T> the bean class this factory creates
+ */
+public interface GeneratedBeanFactory<T> {
+
+    Class<T> beanType();
+
+    T instantiate(BeanFactory factory);
+
+    void injectFields(T bean, BeanFactory factory);
+
+    void postConstruct(T bean);
+
+    void preDestroy(T bean);
+}
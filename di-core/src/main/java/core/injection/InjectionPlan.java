@@ -0,0 +1,346 @@
+package core.injection;
+
+import core.annotations.PostConstruct;
+import core.annotations.PreDestroy;
+import core.container.BeanDefinition;
+import core.container.BeanFactory;
+import core.container.BeanRegistry;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable recipe for creating and initializing instances of a single bean definition.
+ *
+ * A plan is built once per {@link BeanDefinition} while the container refreshes, and holds
+ * everything that would otherwise be looked up reflectively on every creation:
+ *
+ * - the instantiator: the injection constructor, or the {@code @Bean} factory method bound to
+ *   its configuration instance, together with a resolver for each of its parameters;
+ * - a setter for every {@code @Inject} field together with the definition it resolved to;
+ * - the {@code @PostConstruct} and {@code @PreDestroy} callbacks, noting which post-construct
+ *   callbacks are asynchronous: marked {@code @PostConstruct(async = true)} or returning a
+ *   {@link CompletionStage}.
+ *
+ * All members are held as {@link MethodHandle}s adapted to generic signatures, so creating a
+ * bean runs no member discovery, annotation checks or access checks.
+ *
+ * A {@code @Bean} method may return a subclass of its declared return type, whose own
+ * {@code @Inject} fields and lifecycle callbacks must not be lost. For factory-method definitions
+ * the fields and callbacks are therefore taken from the runtime class of the instances, resolved
+ * once per runtime class and cached in the plan.
+ *
+ * When the definition carries a {@link GeneratedBeanFactory}, the plan delegates every step to
+ * it instead and no reflective member is resolved at all.
+ */
+public final class InjectionPlan {
+
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final MethodType STAGE_CALLBACK_TYPE = MethodType.methodType(CompletionStage.class, Object.class);
+
+    private final Class<?> beanClass;
+    private final GeneratedBeanFactory<Object> generatedFactory;
+    private final MethodHandle instantiator;
+    private final DependencyResolver[] argumentResolvers;
+    private final Members declaredMembers;
+    private final BeanRegistry registry;
+    private final Map<Class<?>, Members> runtimeMembers;
+
+    private InjectionPlan(Class<?> beanClass,
+                          GeneratedBeanFactory<Object> generatedFactory,
+                          MethodHandle instantiator,
+                          DependencyResolver[] argumentResolvers,
+                          Members declaredMembers,
+                          BeanRegistry registry) {
+        this.beanClass = beanClass;
+        this.generatedFactory = generatedFactory;
+        this.instantiator = instantiator;
+        this.argumentResolvers = argumentResolvers;
+        this.declaredMembers = declaredMembers;
+        this.registry = registry;
+        this.runtimeMembers = registry != null ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Builds the plan for the given definition. Factory-method definitions must already carry
+     * their configuration instance.
+     *
+     * @param def bean definition to plan
+     * @param registry registry used to resolve the dependencies of the definition once
+     * @return the injection plan
+     */
+    @SuppressWarnings("unchecked")
+    public static InjectionPlan forDefinition(BeanDefinition def, BeanRegistry registry) {
+        if (def.getGeneratedFactory().isPresent()) {
+            return new InjectionPlan(
+                    def.getBeanClass(),
+                    (GeneratedBeanFactory<Object>) def.getGeneratedFactory().get(),
+                    null,
+                    null,
+                    null,
+                    null
+            );
+        }
+
+        Executable creator;
+        MethodHandle instantiator;
+        if (def.getFactoryMethod().isPresent()) {
+            creator = def.getFactoryMethod().get();
+            instantiator = factoryMethodHandle(def);
+        } else {
+            Constructor<?> constructor = ConstructorInjector.findConstructor(def.getBeanClass());
+            creator = constructor;
+            instantiator = ConstructorInjector.constructorHandle(constructor);
+        }
+
+        return new InjectionPlan(
+                def.getBeanClass(),
+                null,
+                instantiator.asSpreader(Object[].class, creator.getParameterCount()).asType(INSTANTIATOR_TYPE),
+                ConstructorInjector.argumentResolvers(creator, registry),
+                Members.of(def.getBeanClass(), registry),
+                def.getFactoryMethod().isPresent() ? registry : null
+        );
+    }
+
+    /**
+     * @return the fields and callbacks of the given instance: those of the bean class, or for a
+     *         factory method that returned a subclass, those of the instance's runtime class
+     */
+    private Members members(Object instance) {
+        Class<?> type = instance.getClass();
+        if (runtimeMembers == null || type == beanClass) {
+            return declaredMembers;
+        }
+        return runtimeMembers.computeIfAbsent(type, t -> Members.of(t, registry));
+    }
+
+    private static MethodHandle factoryMethodHandle(BeanDefinition def) {
+        Object configInstance = def.getFactoryInstance()
+                .orElseThrow(() -> new RuntimeException("Missing @Configuration instance for factory method"));
+        Method factoryMethod = def.getFactoryMethod().get();
+        try {
+            factoryMethod.setAccessible(true);
+            return MethodHandles.lookup().unreflect(factoryMethod).bindTo(configInstance);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to create bean via factory method", e);
+        }
+    }
+
+    private static LifecycleCallback[] callbacks(Class<?> beanClass, Class<? extends Annotation> marker) {
+        String kind = "@" + marker.getSimpleName();
+        List<LifecycleCallback> callbacks = new ArrayList<>();
+        for (Method method : beanClass.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(marker)) {
+                boolean returnsStage = marker == PostConstruct.class
+                        && CompletionStage.class.isAssignableFrom(method.getReturnType());
+                boolean async = marker == PostConstruct.class && method.getAnnotation(PostConstruct.class).async();
+                try {
+                    method.setAccessible(true);
+                    MethodHandle handle = MethodHandles.lookup().unreflect(method)
+                            .asType(returnsStage ? STAGE_CALLBACK_TYPE : CALLBACK_TYPE);
+                    callbacks.add(new LifecycleCallback(kind, method.getName(), handle, async, returnsStage));
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException("Cannot access " + kind + " method: " + method.getName(), e);
+                }
+            }
+        }
+        return callbacks.toArray(new LifecycleCallback[0]);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Resolves the constructor or factory method arguments and creates a new instance whose
+     * fields are not yet injected.
+     */
+    public Object instantiate(BeanFactory factory) {
+        if (generatedFactory != null) {
+            return generatedFactory.instantiate(factory);
+        }
+        Object[] arguments = new Object[argumentResolvers.length];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = argumentResolvers[i].resolve(factory);
+        }
+        try {
+            return (Object) instantiator.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to create bean: " + beanClass, e);
+        }
+    }
+
+    /**
+     * Resolves every {@code @Inject} field from the given factory and assigns it.
+     */
+    public void injectFields(Object instance, BeanFactory factory) {
+        if (generatedFactory != null) {
+            generatedFactory.injectFields(instance, factory);
+            return;
+        }
+        for (FieldInjector.InjectableField field : members(instance).fields) {
+            field.inject(instance, factory);
+        }
+    }
+
+    /**
+     * @return whether any {@code @PostConstruct} callback of the instance is asynchronous
+     */
+    public boolean hasAsyncPostConstruct(Object instance) {
+        return generatedFactory == null && members(instance).asyncPostConstruct;
+    }
+
+    /**
+     * Runs the {@code @PostConstruct} callbacks on a fully injected instance, and waits for the
+     * asynchronous ones to complete. Callbacks marked {@code async} run on the calling thread.
+     */
+    public void postConstruct(Object instance) {
+        if (generatedFactory != null) {
+            generatedFactory.postConstruct(instance);
+            return;
+        }
+        Members members = members(instance);
+        if (members.asyncPostConstruct) {
+            try {
+                postConstructAsync(instance, Runnable::run).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+            return;
+        }
+        for (LifecycleCallback callback : members.postConstructCallbacks) {
+            callback.invoke(instance);
+        }
+    }
+
+    /**
+     * Runs the {@code @PostConstruct} callbacks one after another without blocking on the
+     * asynchronous ones. Callbacks up to the first asynchronous one run on the calling thread,
+     * callbacks marked {@code async} run on the given executor, and a callback returning a
+     * {@link CompletionStage} only lets the next one run once that stage completes.
+     *
+     * @return completes once every callback has completed, or exceptionally with the first failure
+     */
+    public CompletableFuture<Void> postConstructAsync(Object instance, Executor executor) {
+        CompletableFuture<Void> done = CompletableFuture.completedFuture(null);
+        for (LifecycleCallback callback : members(instance).postConstructCallbacks) {
+            if (callback.async) {
+                done = done.thenComposeAsync(ignored -> callback.invokeAsync(instance), executor);
+            } else {
+                done = done.thenCompose(ignored -> callback.invokeAsync(instance));
+            }
+        }
+        return done;
+    }
+
+    /**
+     * Runs the {@code @PreDestroy} callbacks on an instance that is being discarded.
+     */
+    public void preDestroy(Object instance) {
+        if (generatedFactory != null) {
+            generatedFactory.preDestroy(instance);
+            return;
+        }
+        for (LifecycleCallback callback : members(instance).preDestroyCallbacks) {
+            callback.invoke(instance);
+        }
+    }
+
+    /**
+     * The {@code @Inject} fields and lifecycle callbacks of one class.
+     */
+    private static final class Members {
+        private final FieldInjector.InjectableField[] fields;
+        private final LifecycleCallback[] postConstructCallbacks;
+        private final LifecycleCallback[] preDestroyCallbacks;
+        private final boolean asyncPostConstruct;
+
+        private Members(FieldInjector.InjectableField[] fields,
+                        LifecycleCallback[] postConstructCallbacks,
+                        LifecycleCallback[] preDestroyCallbacks) {
+            this.fields = fields;
+            this.postConstructCallbacks = postConstructCallbacks;
+            this.preDestroyCallbacks = preDestroyCallbacks;
+
+            boolean async = false;
+            for (LifecycleCallback callback : postConstructCallbacks) {
+                async |= callback.async || callback.returnsStage;
+            }
+            this.asyncPostConstruct = async;
+        }
+
+        static Members of(Class<?> type, BeanRegistry registry) {
+            return new Members(
+                    FieldInjector.injectableFields(type, registry),
+                    callbacks(type, PostConstruct.class),
+                    callbacks(type, PreDestroy.class)
+            );
+        }
+    }
+
+    private static final class LifecycleCallback {
+        private final String kind;
+        private final String name;
+        private final MethodHandle handle;
+        private final boolean async;
+        private final boolean returnsStage;
+
+        LifecycleCallback(String kind, String name, MethodHandle handle, boolean async, boolean returnsStage) {
+            this.kind = kind;
+            this.name = name;
+            this.handle = handle;
+            this.async = async;
+            this.returnsStage = returnsStage;
+        }
+
+        void invoke(Object instance) {
+            try {
+                handle.invokeExact(instance);
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to execute " + kind + " method: " + name, e);
+            }
+        }
+
+        /**
+         * Invokes the callback and, if it returns a stage, adapts that stage so that it fails
+         * with the same exception a synchronous failure would have thrown.
+         */
+        CompletableFuture<Void> invokeAsync(Object instance) {
+            if (!returnsStage) {
+                invoke(instance);
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletionStage<?> stage;
+            try {
+                stage = (CompletionStage<?>) handle.invokeExact(instance);
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to execute " + kind + " method: " + name, e);
+            }
+            if (stage == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return stage.toCompletableFuture().handle((result, failure) -> {
+                if (failure != null) {
+                    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                    throw new RuntimeException("Failed to execute " + kind + " method: " + name, cause);
+                }
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package core.injection;
+
+import core.annotations.Lazy;
+import core.annotations.Qualifier;
+import core.annotations.Value;
+import core.container.BeanDefinition;
+import core.container.BeanRegistry;
+import core.property.ValueExpression;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A single dependency declared by a bean definition: an {@code @Inject} field, a parameter of
+ * the injection constructor, or a parameter of a {@code @Bean} factory method.
+ *
+ * Injection points are collected once while the container refreshes. Each one is resolved
+ * against the {@link BeanRegistry} a single time, and the resulting {@link DependencyResolver}
+ * is stored in the bean's {@link InjectionPlan}, so creating a bean never searches the registry.
+ *
+ * An injection point annotated with {@code @Lazy} receives a proxy that resolves the bean on
+ * first use. An injection point of type {@link Provider Provider&lt;T&gt;} or
+ * {@link ObjectFactory ObjectFactory&lt;T&gt;} receives a provider bound to the definition of
+ * {@code T}. Neither kind is treated as a startup dependency of the declaring bean.
+ *
+ * A field or parameter annotated with {@code @Qualifier} is resolved by name instead of by type,
+ * through the registry's qualifier index, and must be assignable from the named bean.
+ *
+ * An injection point of type {@code List<T>} or {@code Map<String, T>} receives every bean of
+ * type {@code T}, sorted by {@code @Order}; see {@link BeanCollectionResolver}. Such injection
+ * points can be neither qualified nor lazy, and depend on every bean they receive.
+ *
+ * An injection point annotated with {@code @Value} receives a configuration value instead of a
+ * bean. Its expression is resolved against the registry's property source and converted once,
+ * when the resolver is created, and it does not depend on any bean.
+ */
+public final class InjectionPoint {
+
+    private final Class<?> type;
+    private final Class<?> beanType;
+    private final boolean provider;
+    private final boolean list;
+    private final boolean map;
+    private final boolean lazy;
+    private final String qualifier;
+    private final String value;
+    private final String description;
+
+    private InjectionPoint(Class<?> type, Type genericType, boolean lazy, Qualifier qualifier, Value value,
+                           String description) {
+        this.type = type;
+        this.provider = type == Provider.class || type == ObjectFactory.class;
+        this.list = type == List.class;
+        this.map = type == Map.class;
+        this.lazy = lazy;
+        this.qualifier = qualifier != null ? qualifier.value() : null;
+        this.value = value != null ? value.value() : null;
+        this.description = description;
+
+        if (value != null) {
+            this.beanType = type;
+        } else if (provider) {
+            this.beanType = typeArgument(genericType, 0, "Provider");
+        } else if (list) {
+            this.beanType = typeArgument(genericType, 0, "List");
+        } else if (map) {
+            if (typeArgument(genericType, 0, "Map") != String.class) {
+                throw new RuntimeException("Map injection requires String keys: " + description);
+            }
+            this.beanType = typeArgument(genericType, 1, "Map");
+        } else {
+            this.beanType = type;
+        }
+        if (value != null && (lazy || qualifier != null)) {
+            throw new RuntimeException("@Value injection cannot be @Lazy or @Qualifier: " + description);
+        }
+        if (value == null && (list || map) && (lazy || qualifier != null)) {
+            throw new RuntimeException(type.getSimpleName() + " injection cannot be @Lazy or @Qualifier: " + description);
+        }
+    }
+
+    private Class<?> typeArgument(Type genericType, int index, String kind) {
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[index];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        throw new RuntimeException(kind + " injection requires a concrete bean type argument: " + description);
+    }
+
+    public static InjectionPoint forField(Field field) {
+        return new InjectionPoint(field.getType(), field.getGenericType(), field.isAnnotationPresent(Lazy.class),
+                field.getAnnotation(Qualifier.class), field.getAnnotation(Value.class),
+                "field " + field.getDeclaringClass().getName() + "." + field.getName());
+    }
+
+    public static InjectionPoint forParameter(Executable executable, int index) {
+        String owner = executable instanceof Constructor
+                ? "constructor " + executable.getDeclaringClass().getName()
+                : "method " + executable.getDeclaringClass().getName() + "." + executable.getName();
+        Parameter parameter = executable.getParameters()[index];
+        return new InjectionPoint(parameter.getType(), parameter.getParameterizedType(),
+                parameter.isAnnotationPresent(Lazy.class), parameter.getAnnotation(Qualifier.class),
+                parameter.getAnnotation(Value.class),
+                "parameter " + index + " of " + owner);
+    }
+
+    /**
+     * Collects every injection point of the given definition: the parameters of its
+     * {@code @Bean} method or injection constructor, followed by its {@code @Inject} fields.
+     *
+     * @param def bean definition to inspect
+     * @return the injection points in injection order
+     */
+    public static List<InjectionPoint> forDefinition(BeanDefinition def) {
+        List<InjectionPoint> points = new ArrayList<>();
+
+        Executable creator = def.getFactoryMethod().isPresent()
+                ? def.getFactoryMethod().get()
+                : ConstructorInjector.findConstructor(def.getBeanClass());
+        for (int i = 0; i < creator.getParameterCount(); i++) {
+            points.add(forParameter(creator, i));
+        }
+
+        for (Field field : FieldInjector.findInjectableFields(def.getBeanClass())) {
+            points.add(forField(field));
+        }
+        return points;
+    }
+
+    public Class<?> getType() { return type; }
+    public Class<?> getBeanType() { return beanType; }
+    public boolean isLazy() { return lazy; }
+    public boolean isProvider() { return provider; }
+    public boolean isCollection() { return value == null && (list || map); }
+    public Optional<String> getValueExpression() { return Optional.ofNullable(value); }
+    public Optional<String> getQualifier() { return Optional.ofNullable(qualifier); }
+
+    /**
+     * @return whether the target bean must exist before the declaring bean is created; false for
+     *         lazy and provider injection points, which obtain the bean only when it is used, and
+     *         for {@code @Value} injection points, which inject no bean
+     */
+    public boolean isStartupDependency() {
+        return !lazy && !provider && value == null;
+    }
+    public String getDescription() { return description; }
+
+    /**
+     * Resolves the definition this injection point receives.
+     *
+     * @param registry registry whose resolution index has been refreshed
+     * @return the definition to inject
+     * @throws RuntimeException if no bean or more than one candidate matches
+     */
+    public BeanDefinition resolve(BeanRegistry registry) {
+        try {
+            return qualifier == null ? registry.resolve(beanType) : registry.resolve(beanType, qualifier);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Unsatisfied dependency for " + description + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves every definition this injection point receives: all beans of the element type for
+     * a collection, otherwise the single definition {@link #resolve} returns.
+     *
+     * @param registry registry whose resolution index has been refreshed
+     * @return the definitions to inject, in injection order
+     */
+    public List<BeanDefinition> resolveTargets(BeanRegistry registry) {
+        if (value != null) {
+            return List.of();
+        }
+        return list || map ? registry.resolveAll(beanType) : List.of(resolve(registry));
+    }
+
+    /**
+     * Resolves this injection point once and returns the resolver that supplies its value:
+     * the bean itself, a provider bound to it, or a lazy-resolution proxy for {@code @Lazy}
+     * injection points.
+     *
+     * @param registry registry whose resolution index has been refreshed
+     * @return the resolver bound to the resolved definition
+     */
+    public DependencyResolver resolver(BeanRegistry registry) {
+        if (value != null) {
+            Object converted = ValueExpression.evaluate(value, registry.getPropertySource(), type, description);
+            return factory -> converted;
+        }
+        if (list) {
+            return BeanCollectionResolver.forList(registry.resolveAll(beanType));
+        }
+        if (map) {
+            return BeanCollectionResolver.forMap(registry.resolveAll(beanType), description);
+        }
+        BeanDefinition target = resolve(registry);
+        if (provider) {
+            return factory -> new BoundProvider<>(factory, target);
+        }
+        if (!lazy) {
+            return factory -> factory.getBean(target);
+        }
+        if (!type.isInterface()) {
+            throw new RuntimeException("@Lazy injection requires an interface type, but " + description
+                    + " is of class type " + type.getName());
+        }
+        return factory -> LazyResolutionProxy.create(type, factory, target);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,107 @@
+package core.injection;
+
+import core.container.BeanDefinition;
+import core.container.BeanFactory;
+import core.scope.BeanPool;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invocation handler behind the proxies injected into {@code @Lazy} injection points.
+ *
+ * The proxy implements the injected interface and holds the already resolved target definition.
+ * For a singleton target the first method call obtains the bean from the factory; the instance is
+ * then kept in a volatile field, so every later call goes straight to it without touching the
+ * factory again.
+ *
+ * Any other target is resolved again on every call, so the proxy never pins an instance beyond
+ * its scope: a THREAD, CONTEXT or custom-scoped call reaches the instance of the scope active at
+ * that moment, a PROTOTYPE call gets a fresh instance, and a POOLED call borrows an instance for
+ * the duration of the call and hands it back afterwards.
+ *
+ * Calls are forwarded through a {@link MethodHandle} per interface method, unreflected once and
+ * shared by every proxy, so the injected interface does not have to be public.
+ */
+final class LazyResolutionProxy implements InvocationHandler {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final ClassValue<Map<Method, MethodHandle>> HANDLES = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final BeanFactory factory;
+    private final BeanDefinition target;
+    private volatile Object instance;
+
+    private LazyResolutionProxy(BeanFactory factory, BeanDefinition target) {
+        this.factory = factory;
+        this.target = target;
+    }
+
+    static Object create(Class<?> type, BeanFactory factory, BeanDefinition target) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new LazyResolutionProxy(factory, target));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (target.getScope()) {
+            case SINGLETON:
+                return forward(singleton(), method, args);
+            case POOLED:
+                BeanPool<Object> pool = factory.getPool(target);
+                Object borrowed = pool.borrow();
+                try {
+                    return forward(borrowed, method, args);
+                } finally {
+                    pool.release(borrowed);
+                }
+            default:
+                return forward(factory.getBean(target), method, args);
+        }
+    }
+
+    private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+        MethodHandle handle = HANDLES.get(method.getDeclaringClass()).computeIfAbsent(method, LazyResolutionProxy::handle);
+        Object[] arguments = args != null ? args : NO_ARGUMENTS;
+        return (Object) handle.invokeExact(target, arguments);
+    }
+
+    /**
+     * @return a handle taking the target and the arguments as an array, returning the result boxed
+     */
+    private static MethodHandle handle(Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, method.getParameterCount());
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot forward calls to " + method, e);
+        }
+    }
+
+    private Object singleton() {
+        Object current = instance;
+        if (current == null) {
+            synchronized (this) {
+                current = instance;
+                if (current == null) {
+                    current = factory.getBean(target);
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+}
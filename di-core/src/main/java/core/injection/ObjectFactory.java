@@ -0,0 +1,15 @@
+package core.injection;
+
+/**
+ * Supplies instances of a bean on demand, in the style of {@code ApplicationContext.getObject}.
+ * This is the equivalent of {@link Provider} for code that prefers the {@code getObject} naming;
+ * both are bound to their resolved definition at injection time and are safe to share between
+ * threads.
+ *
+ * @param <T> type of the provided bean
+ */
+@FunctionalInterface
+public interface ObjectFactory<T> {
+
+    T getObject();
+}
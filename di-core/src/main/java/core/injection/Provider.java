@@ -0,0 +1,18 @@
+package core.injection;
+
+/**
+ * Supplies instances of a bean on demand. Injecting {@code Provider<T>} instead of {@code T}
+ * lets a long-lived bean obtain a fresh instance of a PROTOTYPE bean on every call, without
+ * holding the {@code ApplicationContext}.
+ *
+ * An injected provider is bound to the definition its type argument resolved to when the
+ * container refreshed, so {@link #get()} creates or returns the bean directly, without any
+ * registry lookup. Providers are stateless and may be called from many threads at once.
+ *
+ * @param <T> type of the provided bean
+ */
+@FunctionalInterface
+public interface Provider<T> {
+
+    T get();
+}
@@ -0,0 +1,11 @@
+package core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("core.di.BeanInstantiation")
+@Label("Bean Instantiation")
+@Description("Invocation of the constructor, @Bean method or generated factory of a bean, including the creation of its arguments")
+public final class BeanInstantiationEvent extends BeanEvent {
+}
@@ -0,0 +1,11 @@
+package core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("core.di.BeanRegistration")
+@Label("Bean Registration")
+@Description("Creation of a bean definition from its annotations and its registration with the registry")
+public final class BeanRegistrationEvent extends BeanEvent {
+}
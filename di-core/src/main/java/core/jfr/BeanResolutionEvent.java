@@ -0,0 +1,20 @@
+package core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted on every {@code getBean(Class)} call, so it is disabled by default; enable
+ * {@code core.di.BeanResolution} in the recording settings to capture it.
+ */
+@Name("core.di.BeanResolution")
+@Label("Bean Resolution")
+@Description("Resolution of a requested type to the bean definition that serves it")
+@Enabled(false)
+public final class BeanResolutionEvent extends BeanEvent {
+
+    @Label("Requested Type")
+    public Class<?> requestedType;
+}
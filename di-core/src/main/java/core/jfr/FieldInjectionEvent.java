@@ -0,0 +1,11 @@
+package core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("core.di.FieldInjection")
+@Label("Field Injection")
+@Description("Injection of the @Inject fields of a bean, including the creation of the injected beans")
+public final class FieldInjectionEvent extends BeanEvent {
+}
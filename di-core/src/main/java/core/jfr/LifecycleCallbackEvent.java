@@ -0,0 +1,21 @@
+package core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("core.di.LifecycleCallback")
+@Label("Lifecycle Callback")
+@Description("Invocation of the @PostConstruct or @PreDestroy callbacks of a bean")
+public final class LifecycleCallbackEvent extends BeanEvent {
+
+    public static final String POST_CONSTRUCT = "PostConstruct";
+    public static final String PRE_DESTROY = "PreDestroy";
+
+    @Label("Phase")
+    public String phase;
+
+    public LifecycleCallbackEvent(String phase) {
+        this.phase = phase;
+    }
+}
@@ -0,0 +1,24 @@
+package core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("core.di.Scan")
+@Label("Component Scan")
+@Description("Discovery of the component classes of a base package, from the bean index or the classpath")
+@Category({"DI Framework", "Startup"})
+public final class ScanEvent extends Event {
+
+    @Label("Base Package")
+    public String basePackage;
+
+    @Label("Source")
+    @Description("Either \"index\" or \"classpath\"")
+    public String source;
+
+    @Label("Classes Found")
+    public int classCount;
+}
@@ -0,0 +1,20 @@
+package core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted on every singleton lookup, so it is disabled by default; enable
+ * {@code core.di.SingletonCache} in the recording settings to capture it.
+ */
+@Name("core.di.SingletonCache")
+@Label("Singleton Cache Lookup")
+@Description("Lookup of a singleton; a miss includes the creation of the singleton")
+@Enabled(false)
+public final class SingletonCacheEvent extends BeanEvent {
+
+    @Label("Hit")
+    public boolean hit;
+}
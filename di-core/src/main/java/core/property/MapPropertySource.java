@@ -0,0 +1,130 @@
+package core.property;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * A property source backed by an immutable map, with factories for the standard sources.
+ */
+public final class MapPropertySource implements PropertySource {
+
+    private final String name;
+    private final Map<String, String> properties;
+
+    public MapPropertySource(String name, Map<String, String> properties) {
+        this.name = name;
+        this.properties = Map.copyOf(properties);
+    }
+
+    /**
+     * @return a copy of the current system properties
+     */
+    public static MapPropertySource systemProperties() {
+        Map<String, String> properties = new HashMap<>();
+        System.getProperties().forEach((key, value) -> properties.put(String.valueOf(key), String.valueOf(value)));
+        return new MapPropertySource("system properties", properties);
+    }
+
+    /**
+     * Copies the environment variables. Each variable is also available under its relaxed
+     * name, lower case with underscores replaced by dots, so that {@code SERVER_PORT} answers
+     * {@code server.port}.
+     */
+    public static MapPropertySource environment() {
+        Map<String, String> properties = new HashMap<>();
+        System.getenv().forEach((key, value) -> {
+            properties.put(key, value);
+            properties.putIfAbsent(key.toLowerCase(Locale.ROOT).replace('_', '.'), value);
+        });
+        return new MapPropertySource("environment", properties);
+    }
+
+    /**
+     * Loads a {@code .properties} file, or any file of {@code key=value} lines, in UTF-8. The file
+     * is memory-mapped and parsed in a single pass, so large files are never copied onto the heap
+     * as a whole.
+     *
+     * @throws RuntimeException if the file cannot be read
+     */
+    public static MapPropertySource fromFile(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return fromStream(file.toString(), new ByteBufferInputStream(buffer));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read properties file " + file, e);
+        }
+    }
+
+    /**
+     * Loads {@code key=value} properties in UTF-8 from a stream, which is closed afterwards.
+     *
+     * @throws IOException if the stream cannot be read
+     */
+    public static MapPropertySource fromStream(String name, InputStream stream) throws IOException {
+        Properties loaded = new Properties();
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            loaded.load(reader);
+        }
+        Map<String, String> properties = new HashMap<>();
+        for (String key : loaded.stringPropertyNames()) {
+            properties.put(key, loaded.getProperty(key));
+        }
+        return new MapPropertySource(name, properties);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<String> getProperty(String key) {
+        return Optional.ofNullable(properties.get(key));
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    @Override
+    public String toString() {
+        return "PropertySource[" + name + ", " + properties.size() + " properties]";
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package core.property;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A named set of string properties that {@code @Value} placeholders and registration
+ * conditions are resolved against.
+ */
+public interface PropertySource {
+
+    String getName();
+
+    Optional<String> getProperty(String key);
+
+    /**
+     * @return every key this source defines, used to precompute layered lookups
+     */
+    Set<String> getPropertyNames();
+}
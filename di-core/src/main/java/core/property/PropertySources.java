@@ -0,0 +1,88 @@
+package core.property;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Layered property source: a key resolves to its value in the first layer that defines it.
+ *
+ * The layers are merged into a single map when the instance is created, so every lookup is one
+ * hash probe instead of a walk over the layers. Later changes to a layer's underlying data, such
+ * as new system properties, are therefore not seen.
+ *
+ * The standard layers, from highest to lowest precedence, are the system properties, the
+ * environment variables, the file named by the {@value #CONFIG_PROPERTY} system property, and
+ * the {@value #DEFAULT_RESOURCE} classpath resource.
+ */
+public final class PropertySources implements PropertySource {
+
+    public static final String CONFIG_PROPERTY = "di.config";
+    public static final String DEFAULT_RESOURCE = "application.properties";
+
+    private final List<PropertySource> layers;
+    private final Map<String, String> merged;
+
+    /**
+     * @param layers sources in order of precedence, highest first
+     */
+    public PropertySources(List<PropertySource> layers) {
+        this.layers = List.copyOf(layers);
+        Map<String, String> merged = new HashMap<>();
+        for (int i = this.layers.size() - 1; i >= 0; i--) {
+            PropertySource layer = this.layers.get(i);
+            for (String key : layer.getPropertyNames()) {
+                layer.getProperty(key).ifPresent(value -> merged.put(key, value));
+            }
+        }
+        this.merged = Map.copyOf(merged);
+    }
+
+    /**
+     * @return the standard layers, reading the classpath resource through the given class loader
+     */
+    public static PropertySources standard(ClassLoader classLoader) {
+        List<PropertySource> layers = new ArrayList<>();
+        layers.add(MapPropertySource.systemProperties());
+        layers.add(MapPropertySource.environment());
+
+        String configFile = System.getProperty(CONFIG_PROPERTY);
+        if (configFile != null && !configFile.isEmpty()) {
+            layers.add(MapPropertySource.fromFile(Paths.get(configFile)));
+        }
+        InputStream resource = classLoader.getResourceAsStream(DEFAULT_RESOURCE);
+        if (resource != null) {
+            try {
+                layers.add(MapPropertySource.fromStream("classpath:" + DEFAULT_RESOURCE, resource));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read " + DEFAULT_RESOURCE, e);
+            }
+        }
+        return new PropertySources(layers);
+    }
+
+    public List<PropertySource> getLayers() {
+        return layers;
+    }
+
+    @Override
+    public String getName() {
+        return "layered" + layers.stream().map(PropertySource::getName).toList();
+    }
+
+    @Override
+    public Optional<String> getProperty(String key) {
+        return Optional.ofNullable(merged.get(key));
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return merged.keySet();
+    }
+}
@@ -0,0 +1,152 @@
+package core.property;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Evaluates the expression of a {@code @Value} injection point: replaces its {@code ${key}} and
+ * {@code ${key:default}} placeholders with properties, and converts the result to the type of
+ * the injection point. Evaluation happens once per injection point while the injection plan is
+ * built; the converted value is then injected as a constant.
+ */
+public final class ValueExpression {
+
+    private ValueExpression() {
+    }
+
+    /**
+     * @param expression  the {@code @Value} expression
+     * @param source      properties to resolve placeholders against
+     * @param type        type of the field or parameter
+     * @param description injection point, used in error messages
+     * @return the converted value
+     * @throws RuntimeException if a property without a default is missing, or the value cannot
+     *                          be converted
+     */
+    public static Object evaluate(String expression, PropertySource source, Class<?> type, String description) {
+        String value = resolvePlaceholders(expression, source, description);
+        try {
+            return convert(value, type);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Cannot convert value '" + value + "' of " + description + " to "
+                    + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    static String resolvePlaceholders(String expression, PropertySource source, String description) {
+        StringBuilder result = new StringBuilder();
+        int position = 0;
+        while (position < expression.length()) {
+            int start = expression.indexOf("${", position);
+            if (start < 0) {
+                result.append(expression, position, expression.length());
+                break;
+            }
+            int end = expression.indexOf('}', start);
+            if (end < 0) {
+                throw new RuntimeException("Unterminated placeholder in '" + expression + "' of " + description);
+            }
+            result.append(expression, position, start);
+
+            String placeholder = expression.substring(start + 2, end);
+            int separator = placeholder.indexOf(':');
+            String key = separator < 0 ? placeholder : placeholder.substring(0, separator);
+            String defaultValue = separator < 0 ? null : placeholder.substring(separator + 1);
+            String value = source.getProperty(key).orElse(defaultValue);
+            if (value == null) {
+                throw new RuntimeException("Missing property '" + key + "' for " + description);
+            }
+            result.append(value);
+            position = end + 1;
+        }
+        return result.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object convert(String value, Class<?> type) {
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return value;
+        }
+        String trimmed = value.trim();
+        if (type == int.class || type == Integer.class) {
+            return Integer.parseInt(trimmed);
+        }
+        if (type == long.class || type == Long.class) {
+            return Long.parseLong(trimmed);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            if (!trimmed.equalsIgnoreCase("true") && !trimmed.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("expected true or false");
+            }
+            return Boolean.parseBoolean(trimmed);
+        }
+        if (type == double.class || type == Double.class) {
+            return Double.parseDouble(trimmed);
+        }
+        if (type == float.class || type == Float.class) {
+            return Float.parseFloat(trimmed);
+        }
+        if (type == short.class || type == Short.class) {
+            return Short.parseShort(trimmed);
+        }
+        if (type == byte.class || type == Byte.class) {
+            return Byte.parseByte(trimmed);
+        }
+        if (type == char.class || type == Character.class) {
+            if (value.length() != 1) {
+                throw new IllegalArgumentException("expected a single character");
+            }
+            return value.charAt(0);
+        }
+        if (type == Duration.class) {
+            return parseDuration(trimmed);
+        }
+        if (type == Path.class) {
+            return Paths.get(trimmed);
+        }
+        if (type == String[].class) {
+            return trimmed.isEmpty()
+                    ? new String[0]
+                    : Arrays.stream(trimmed.split(",")).map(String::trim).toArray(String[]::new);
+        }
+        if (type.isEnum()) {
+            for (Object constant : type.getEnumConstants()) {
+                if (((Enum) constant).name().equalsIgnoreCase(trimmed)) {
+                    return constant;
+                }
+            }
+            throw new IllegalArgumentException("no such constant");
+        }
+        throw new IllegalArgumentException("unsupported type");
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (lower.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(lower.substring(0, lower.length() - 2).trim()));
+        }
+        long amount;
+        switch (lower.charAt(lower.length() - 1)) {
+            case 's':
+                amount = Long.parseLong(lower.substring(0, lower.length() - 1).trim());
+                return Duration.ofSeconds(amount);
+            case 'm':
+                amount = Long.parseLong(lower.substring(0, lower.length() - 1).trim());
+                return Duration.ofMinutes(amount);
+            case 'h':
+                amount = Long.parseLong(lower.substring(0, lower.length() - 1).trim());
+                return Duration.ofHours(amount);
+            case 'd':
+                amount = Long.parseLong(lower.substring(0, lower.length() - 1).trim());
+                return Duration.ofDays(amount);
+            default:
+                return Duration.ofMillis(Long.parseLong(lower));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package core.scanner;
+
+import core.property.PropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Bean index generated at compile time by {@code core.processor.BeanIndexProcessor}.
+ *
+ * The index lists the {@code @Component} and {@code @Configuration} classes and the {@code @Bean}
+ * methods of every module that was compiled with the processor on its classpath. Loading it lets
+ * the container skip classpath scanning entirely: only the listed classes are loaded.
+ *
+ * All {@code META-INF/di/bean.index} resources visible to the class loader are merged, so an
+ * application assembled from several indexed jars is covered by a single index. The index only
+ * covers a package when every classpath root holding that package ships an index of its own, as
+ * found by {@link ClassPathRoots}; a package split across an indexed and an unindexed jar or
+ * directory has to be scanned.
+ *
+ * Setting the {@value #IGNORE_PROPERTY} property to {@code true} in the container's properties
+ * disables the index and forces the container back to classpath scanning.
+ */
+public class BeanIndex {
+
+    public static final String LOCATION = "META-INF/di/bean.index";
+    public static final String IGNORE_PROPERTY = "di.index.ignore";
+
+    private final ClassLoader classLoader;
+    private final Set<String> typeNames = new LinkedHashSet<>();
+    private final Set<String> indexedRoots = new HashSet<>();
+    private final Map<String, List<String[]>> beanMethodsByOwner = new HashMap<>();
+
+    private BeanIndex(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Loads and merges all bean index resources visible to the given class loader.
+     *
+     * @param classLoader class loader used to find the index resources and to load the indexed classes
+     * @param properties  properties that may disable the index through {@value #IGNORE_PROPERTY}
+     * @return the merged index, or empty if no index exists or the index is disabled
+     */
+    public static Optional<BeanIndex> load(ClassLoader classLoader, PropertySource properties) {
+        if (isIgnored(properties)) {
+            return Optional.empty();
+        }
+
+        BeanIndex index = new BeanIndex(classLoader);
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            if (!resources.hasMoreElements()) {
+                return Optional.empty();
+            }
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                index.indexedRoots.add(root(resource, LOCATION));
+                index.read(resource);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read bean index " + LOCATION, e);
+        }
+        return Optional.of(index);
+    }
+
+    /**
+     * @return whether the properties disable the index
+     */
+    public static boolean isIgnored(PropertySource properties) {
+        return properties.getProperty(IGNORE_PROPERTY).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    private void read(URL resource) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split(" ");
+                switch (parts[0]) {
+                    case "component", "configuration" -> typeNames.add(parts[1]);
+                    case "bean" -> beanMethodsByOwner
+                            .computeIfAbsent(parts[1], k -> new ArrayList<>())
+                            .add(Arrays.copyOfRange(parts, 2, parts.length));
+                    default -> throw new IllegalStateException("Unknown bean index entry in " + resource + ": " + line);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param basePackage base package to look up
+     * @return whether every classpath root that contains the given package has an index, so that
+     *         the index lists all of its classes and those of its subpackages
+     */
+    public boolean covers(String basePackage) {
+        String packagePath = basePackage.replace('.', '/');
+        try {
+            for (URL root : ClassPathRoots.find(classLoader, packagePath)) {
+                if (!indexedRoots.contains(root(root, packagePath))) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the classpath root a resource was found in, as the part of its URL before the resource name
+     */
+    private static String root(URL resource, String name) {
+        String url = resource.toString();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        return url.endsWith(name) ? url.substring(0, url.length() - name.length()) : url;
+    }
+
+    /**
+     * Returns the indexed {@code @Component} and {@code @Configuration} classes of the given
+     * package and its subpackages. Classes are loaded without being initialized.
+     *
+     * @param basePackage base package to look up
+     * @return Set of annotated classes
+     */
+    public Set<Class<?>> getClasses(String basePackage) {
+        String prefix = basePackage + ".";
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (String name : typeNames) {
+            if (name.startsWith(prefix)) {
+                result.add(loadClass(name));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indexed {@code @Bean} methods declared by the given configuration class.
+     *
+     * @param configClass configuration class
+     * @return the {@code @Bean} methods, empty if the class declares none
+     */
+    public List<Method> getBeanMethods(Class<?> configClass) {
+        List<String[]> signatures = beanMethodsByOwner.getOrDefault(configClass.getName(), List.of());
+        List<Method> methods = new ArrayList<>(signatures.size());
+        for (String[] signature : signatures) {
+            Class<?>[] parameterTypes = new Class<?>[signature.length - 1];
+            for (int i = 1; i < signature.length; i++) {
+                parameterTypes[i - 1] = loadParameterType(signature[i]);
+            }
+            try {
+                methods.add(configClass.getDeclaredMethod(signature[0], parameterTypes));
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException("Bean index is out of date, @Bean method not found: "
+                        + configClass.getName() + "." + signature[0], e);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Loads a parameter type of a {@code @Bean} method. A missing type is reported as a
+     * {@link NoClassDefFoundError}, as reflecting on the method directly would, so that a
+     * conditional configuration class guarding against that type can be skipped.
+     */
+    private Class<?> loadParameterType(String name) {
+        try {
+            return loadClass(name);
+        } catch (RuntimeException e) {
+            if (!(e.getCause() instanceof ClassNotFoundException)) {
+                throw e;
+            }
+            NoClassDefFoundError error = new NoClassDefFoundError(name);
+            error.initCause(e.getCause());
+            throw error;
+        }
+    }
+
+    private Class<?> loadClass(String name) {
+        switch (name) {
+            case "boolean": return boolean.class;
+            case "byte": return byte.class;
+            case "char": return char.class;
+            case "short": return short.class;
+            case "int": return int.class;
+            case "long": return long.class;
+            case "float": return float.class;
+            case "double": return double.class;
+            default:
+                try {
+                    return Class.forName(name, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    throw new RuntimeException("Bean index is out of date, class not found: " + name, e);
+                }
+        }
+    }
+}
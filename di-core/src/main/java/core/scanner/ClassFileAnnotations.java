@@ -0,0 +1,192 @@
+package core.scanner;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the class-level runtime-visible annotations straight from classfile bytes, without
+ * loading the class.
+ *
+ * Only the parts of the classfile needed to answer that question are decoded: the constant pool
+ * is walked once to locate its UTF-8 entries, which are compared as raw bytes and never turned
+ * into strings, and if none of them is the descriptor of a wanted annotation the class is
+ * rejected right away. Otherwise fields and methods are skipped by their declared lengths and the
+ * class's {@code RuntimeVisibleAnnotations} attribute is read, so that a descriptor used by a
+ * field or method annotation does not count as a hit.
+ *
+ * See chapter 4 of the Java Virtual Machine Specification for the classfile layout.
+ */
+final class ClassFileAnnotations {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final byte[] RUNTIME_VISIBLE_ANNOTATIONS = utf8("RuntimeVisibleAnnotations");
+
+    private final byte[][] descriptors;
+
+    /**
+     * @param descriptors annotation type descriptors to look for, e.g.
+     *                    {@code Lcore/annotations/Component;}
+     */
+    ClassFileAnnotations(List<String> descriptors) {
+        this.descriptors = descriptors.stream().map(ClassFileAnnotations::utf8).toArray(byte[][]::new);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param classFile bytes of a classfile
+     * @return whether the class itself carries at least one of the annotations; false for
+     *         malformed input
+     */
+    boolean isAnnotated(byte[] classFile) {
+        try {
+            return scan(ByteBuffer.wrap(classFile));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean scan(ByteBuffer in) {
+        if (in.getInt() != MAGIC) {
+            return false;
+        }
+        in.position(in.position() + 4); // minor and major version
+
+        int poolSize = Short.toUnsignedInt(in.getShort());
+        // Offset of each UTF-8 entry's bytes, preceded by their two-byte length
+        int[] utf8 = new int[poolSize];
+        boolean candidate = false;
+        for (int i = 1; i < poolSize; i++) {
+            int tag = Byte.toUnsignedInt(in.get());
+            switch (tag) {
+                case 1: // Utf8
+                    int length = Short.toUnsignedInt(in.getShort());
+                    utf8[i] = in.position();
+                    candidate = candidate || isDescriptor(in.array(), in.position(), length);
+                    in.position(in.position() + length);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.position(in.position() + 8);
+                    i++;
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.position(in.position() + 4);
+                    break;
+                case 15: // MethodHandle
+                    in.position(in.position() + 3);
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.position(in.position() + 2);
+                    break;
+                default:
+                    return false;
+            }
+        }
+        if (!candidate) {
+            return false;
+        }
+
+        in.position(in.position() + 6); // access flags, this class, super class
+        int interfaces = Short.toUnsignedInt(in.getShort());
+        in.position(in.position() + 2 * interfaces);
+        skipMembers(in); // fields
+        skipMembers(in); // methods
+
+        int attributes = Short.toUnsignedInt(in.getShort());
+        for (int i = 0; i < attributes; i++) {
+            int name = utf8[Short.toUnsignedInt(in.getShort())];
+            int length = in.getInt();
+            if (equalsEntry(in.array(), name, RUNTIME_VISIBLE_ANNOTATIONS)) {
+                int annotations = Short.toUnsignedInt(in.getShort());
+                for (int a = 0; a < annotations; a++) {
+                    int type = utf8[Short.toUnsignedInt(in.getShort())];
+                    if (isDescriptor(in.array(), type, entryLength(in.array(), type))) {
+                        return true;
+                    }
+                    skipElementValuePairs(in);
+                }
+                return false;
+            }
+            in.position(in.position() + length);
+        }
+        return false;
+    }
+
+    private boolean isDescriptor(byte[] bytes, int offset, int length) {
+        for (byte[] descriptor : descriptors) {
+            if (descriptor.length == length
+                    && Arrays.equals(bytes, offset, offset + length, descriptor, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int entryLength(byte[] bytes, int offset) {
+        return ((bytes[offset - 2] & 0xFF) << 8) | (bytes[offset - 1] & 0xFF);
+    }
+
+    private static boolean equalsEntry(byte[] bytes, int offset, byte[] expected) {
+        int length = entryLength(bytes, offset);
+        return length == expected.length && Arrays.equals(bytes, offset, offset + length, expected, 0, length);
+    }
+
+    private static void skipMembers(ByteBuffer in) {
+        int count = Short.toUnsignedInt(in.getShort());
+        for (int i = 0; i < count; i++) {
+            in.position(in.position() + 6); // access flags, name, descriptor
+            int attributes = Short.toUnsignedInt(in.getShort());
+            for (int a = 0; a < attributes; a++) {
+                in.position(in.position() + 2);
+                int length = in.getInt();
+                in.position(in.position() + length);
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(ByteBuffer in) {
+        int pairs = Short.toUnsignedInt(in.getShort());
+        for (int i = 0; i < pairs; i++) {
+            in.position(in.position() + 2); // element name
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(ByteBuffer in) {
+        char tag = (char) in.get();
+        switch (tag) {
+            case 'e': // enum constant: type name and constant name
+                in.position(in.position() + 4);
+                break;
+            case '@': // nested annotation
+                in.position(in.position() + 2);
+                skipElementValuePairs(in);
+                break;
+            case '[':
+                int values = Short.toUnsignedInt(in.getShort());
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(in);
+                }
+                break;
+            default: // constant or class literal
+                in.position(in.position() + 2);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package core.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipFile;
+
+/**
+ * Finds the classpath roots, directories and jars, that contain a package.
+ *
+ * {@link ClassLoader#getResources(String)} only reports a jar for a package if the jar has an
+ * entry for the package's directory, which tools that write jars may leave out. Such jars are
+ * found by also listing the jars on the class loader's class path, those of every
+ * {@link URLClassLoader} in its parent chain and the {@code java.class.path} of the application
+ * class loader, and checking their entry names. The package directories of a jar are read once
+ * per jar and kept for the lifetime of the JVM.
+ */
+public final class ClassPathRoots {
+
+    private static final Map<Path, Set<String>> PACKAGES_BY_JAR = new ConcurrentHashMap<>();
+
+    private ClassPathRoots() {
+    }
+
+    /**
+     * @param classLoader class loader whose class path is searched
+     * @param packagePath package in resource form, e.g. {@code com/example}
+     * @return a URL of the package directory in every root that contains it, in class path order
+     * @throws IOException if the class loader cannot list its resources
+     */
+    public static List<URL> find(ClassLoader classLoader, String packagePath) throws IOException {
+        List<URL> roots = Collections.list(classLoader.getResources(packagePath));
+        Set<Path> reported = new HashSet<>();
+        for (URL root : roots) {
+            jarOf(root).map(jar -> jar.toAbsolutePath().normalize()).ifPresent(reported::add);
+        }
+
+        List<URL> found = new ArrayList<>(roots);
+        for (Path jar : classPathJars(classLoader)) {
+            if (!reported.contains(jar) && packages(jar).contains(packagePath)) {
+                found.add(new URL("jar:" + jar.toUri().toURL() + "!/" + packagePath));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return the jar file a {@code jar:} URL points into, or empty for any other URL
+     */
+    private static Optional<Path> jarOf(URL resource) {
+        if (!"jar".equals(resource.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            String location = resource.toURI().getSchemeSpecificPart();
+            int separator = location.indexOf("!/");
+            return Optional.of(Paths.get(new URL(location.substring(0, separator)).toURI()));
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Set<Path> classPathJars(ClassLoader classLoader) {
+        Set<Path> jars = new LinkedHashSet<>();
+        ClassLoader system = ClassLoader.getSystemClassLoader();
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) loader).getURLs()) {
+                    if ("file".equals(url.getProtocol())) {
+                        try {
+                            addJar(jars, Paths.get(url.toURI()));
+                        } catch (URISyntaxException | IllegalArgumentException e) {
+                            // not a local file, nothing to list
+                        }
+                    }
+                }
+            }
+            if (loader == system) {
+                for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                    if (!entry.isEmpty()) {
+                        addJar(jars, Paths.get(entry));
+                    }
+                }
+            }
+        }
+        return jars;
+    }
+
+    private static void addJar(Set<Path> jars, Path path) {
+        if (Files.isRegularFile(path)) {
+            jars.add(path.toAbsolutePath().normalize());
+        }
+    }
+
+    /**
+     * @return every directory that holds an entry of the jar, without a trailing slash
+     */
+    private static Set<String> packages(Path jar) {
+        return PACKAGES_BY_JAR.computeIfAbsent(jar, file -> {
+            Set<String> packages = new HashSet<>();
+            try (ZipFile zip = new ZipFile(file.toFile())) {
+                zip.stream().forEach(entry -> {
+                    String name = entry.getName();
+                    for (int slash = name.lastIndexOf('/'); slash > 0; slash = name.lastIndexOf('/', slash - 1)) {
+                        if (!packages.add(name.substring(0, slash))) {
+                            break;
+                        }
+                    }
+                });
+            } catch (IOException e) {
+                return Set.of();
+            }
+            return packages;
+        });
+    }
+}
@@ -0,0 +1,200 @@
+package core.scanner;
+
+import core.annotations.Component;
+import core.annotations.Configuration;
+import core.property.PropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the {@code @Component} and {@code @Configuration} classes of a package by reading
+ * classfiles directly, without loading any class that is not a bean.
+ *
+ * Every directory and jar that contributes to the package, as found by {@link ClassPathRoots},
+ * is walked with NIO, jars through a zip file system, and the roots as well as the classfiles
+ * within each root are processed in parallel on the common ForkJoin pool. Each classfile is
+ * checked by {@link ClassFileAnnotations}, which only looks at the constant pool and the
+ * class-level annotations; {@code Class.forName} is called for hits only, without initializing
+ * them. Hits are returned in class name order, so the order in which the container registers
+ * them does not depend on how the parallel walk was scheduled.
+ *
+ * Include and exclude filters restrict the scan by binary class name before any file is read.
+ * Patterns are globs in which {@code *} matches within one package segment and {@code **}
+ * matches across segments, e.g. {@code app.**} or {@code **.internal.**}. A class is scanned if
+ * it matches any include pattern, or if there are none, and matches no exclude pattern. The
+ * container reads comma-separated patterns from its {@value #INCLUDES_PROPERTY} and
+ * {@value #EXCLUDES_PROPERTY} properties.
+ */
+public class ClassPathScanner {
+
+    public static final String INCLUDES_PROPERTY = "di.scan.includes";
+    public static final String EXCLUDES_PROPERTY = "di.scan.excludes";
+
+    private static final ClassFileAnnotations BEAN_ANNOTATIONS = new ClassFileAnnotations(List.of(
+            descriptor(Component.class), descriptor(Configuration.class)));
+
+    private final ClassLoader classLoader;
+    private final List<Pattern> includes;
+    private final List<Pattern> excludes;
+
+    /**
+     * @param properties properties to read the include and exclude patterns from
+     */
+    public ClassPathScanner(PropertySource properties) {
+        this(defaultClassLoader(), patterns(properties.getProperty(INCLUDES_PROPERTY).orElse(null)),
+                patterns(properties.getProperty(EXCLUDES_PROPERTY).orElse(null)));
+    }
+
+    /**
+     * @param classLoader class loader whose resources are scanned and which loads the hits
+     * @param includes    glob patterns of class names to scan; empty to scan all
+     * @param excludes    glob patterns of class names to skip
+     */
+    public ClassPathScanner(ClassLoader classLoader, List<String> includes, List<String> excludes) {
+        this.classLoader = classLoader;
+        this.includes = includes.stream().map(ClassPathScanner::globToPattern).collect(Collectors.toList());
+        this.excludes = excludes.stream().map(ClassPathScanner::globToPattern).collect(Collectors.toList());
+    }
+
+    /**
+     * Scans the given base package and returns classes annotated with
+     * @Component or @Configuration annotations.
+     * 
+     * @param basePackage base package to scan
+     * @return Set of annotated classes, ordered by name
+     */
+    public Set<Class<?>> scan(String basePackage) {
+        String packagePath = basePackage.replace('.', '/');
+        List<URL> roots;
+        try {
+            roots = ClassPathRoots.find(classLoader, packagePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list classpath roots of package " + basePackage, e);
+        }
+
+        return roots.parallelStream()
+                .flatMap(root -> scanRoot(root, basePackage).stream())
+                .distinct()
+                .sorted()
+                .map(this::load)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private List<String> scanRoot(URL root, String basePackage) {
+        try {
+            switch (root.getProtocol()) {
+                case "file":
+                    return scanDirectory(Paths.get(root.toURI()), basePackage);
+                case "jar":
+                    String location = root.toURI().getSchemeSpecificPart();
+                    int separator = location.indexOf("!/");
+                    Path jar = Paths.get(new URL(location.substring(0, separator)).toURI());
+                    try (FileSystem zip = FileSystems.newFileSystem(jar)) {
+                        return scanDirectory(zip.getPath(location.substring(separator + 1)), basePackage);
+                    }
+                default:
+                    return List.of();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan " + root, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Unsupported classpath root " + root, e);
+        }
+    }
+
+    private List<String> scanDirectory(Path packageDir, String basePackage) throws IOException {
+        Map<String, Path> candidates = new HashMap<>();
+        try (Stream<Path> files = Files.walk(packageDir)) {
+            files.filter(file -> file.toString().endsWith(".class"))
+                    .filter(file -> !file.getFileName().toString().contains("-")) // module-info, package-info
+                    .forEach(file -> {
+                        String className = className(packageDir, file, basePackage);
+                        if (accepts(className)) {
+                            candidates.put(className, file);
+                        }
+                    });
+        }
+
+        return candidates.entrySet().parallelStream()
+                .filter(candidate -> BEAN_ANNOTATIONS.isAnnotated(read(candidate.getValue())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static String className(Path packageDir, Path file, String basePackage) {
+        String relative = packageDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".");
+        String simpleName = relative.substring(0, relative.length() - ".class".length());
+        return basePackage.isEmpty() ? simpleName : basePackage + "." + simpleName;
+    }
+
+    private boolean accepts(String className) {
+        if (!includes.isEmpty() && includes.stream().noneMatch(p -> p.matcher(className).matches())) {
+            return false;
+        }
+        return excludes.stream().noneMatch(p -> p.matcher(className).matches());
+    }
+
+    private static byte[] read(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    private Class<?> load(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new RuntimeException("Failed to load scanned bean class " + className, e);
+        }
+    }
+
+    private static String descriptor(Class<?> annotation) {
+        return "L" + annotation.getName().replace('.', '/') + ";";
+    }
+
+    private static List<String> patterns(String property) {
+        if (property == null || property.isBlank()) {
+            return List.of();
+        }
+        return Stream.of(property.split(",")).map(String::trim).filter(p -> !p.isEmpty()).collect(Collectors.toList());
+    }
+
+    static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^.]*");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static ClassLoader defaultClassLoader() {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        return contextLoader != null ? contextLoader : ClassPathScanner.class.getClassLoader();
+    }
+}
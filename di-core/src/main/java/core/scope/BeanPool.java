@@ -0,0 +1,175 @@
+package core.scope;
+
+import core.annotations.Pooled;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Object pool backing a bean with {@code ScopeType.POOLED}.
+ *
+ * Idle instances live in a single lock-free stack bounded by {@link Pooled#maxSize()}, so every
+ * idle instance counts against the bound and {@link #clear()} reaches all of them. Borrowing
+ * takes the most recently returned instance, which is the most likely to still be in a CPU cache.
+ * A per-thread cache is deliberately not used: it would hold instances outside the bound that
+ * only their own thread could release, and virtual threads would never hit it.
+ *
+ * Borrowing never blocks: when no idle instance is available a new one is created. Returning an
+ * instance to a full pool destroys it. Idle instances older than {@link Pooled#maxIdleMillis()}
+ * are evicted from the bottom of the stack whenever an instance is returned, and are discarded
+ * instead of reused when found on borrow.
+ *
+ * Hit, miss and eviction counts are kept in {@link LongAdder}s so that recording them does not
+ * become a point of contention.
+ *
+ * @param <T> type of the pooled bean
+ */
+public final class BeanPool<T> {
+
+    private final String name;
+    private final Supplier<T> creator;
+    private final Consumer<T> destroyer;
+    private final int maxSize;
+    private final long maxIdleNanos;
+
+    private final ConcurrentLinkedDeque<Entry<T>> shared = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger sharedSize = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name          name of the pooled bean, used in diagnostics
+     * @param maxSize       maximum number of idle instances
+     * @param maxIdleMillis time after which an idle instance is evicted
+     * @param creator       creates a fully initialized instance
+     * @param destroyer     runs the destruction callbacks of an instance leaving the pool
+     */
+    public BeanPool(String name, int maxSize, long maxIdleMillis, Supplier<T> creator, Consumer<T> destroyer) {
+        this.name = name;
+        this.creator = creator;
+        this.destroyer = destroyer;
+        this.maxSize = maxSize;
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleMillis);
+    }
+
+    /**
+     * Takes an idle instance from the pool, or creates one if none is available. The instance
+     * must be handed back with {@link #release(Object)}.
+     */
+    public T borrow() {
+        Entry<T> entry = shared.pollFirst();
+        if (entry != null) {
+            sharedSize.decrementAndGet();
+            if (!isExpired(entry, System.nanoTime())) {
+                hits.increment();
+                return entry.instance;
+            }
+            // The newest idle instance has expired, so every other one has as well
+            evict(entry);
+            evictExpired();
+        }
+
+        misses.increment();
+        return creator.get();
+    }
+
+    /**
+     * Borrows an instance wrapped in a handle that returns it when closed, for use in
+     * try-with-resources blocks.
+     */
+    public PooledBean<T> borrowHandle() {
+        return new PooledBean<>(this, borrow());
+    }
+
+    /**
+     * Returns a borrowed instance to the pool. The caller must not use it afterwards.
+     */
+    public void release(T instance) {
+        long now = System.nanoTime();
+        Entry<T> entry = new Entry<>(instance, now);
+
+        if (sharedSize.incrementAndGet() <= maxSize) {
+            shared.offerFirst(entry);
+        } else {
+            sharedSize.decrementAndGet();
+            destroyer.accept(instance);
+        }
+
+        evictExpired(now);
+    }
+
+    /**
+     * Destroys every idle instance that has exceeded the idle timeout. This
+     * runs on every return; call it directly to trim a pool that has gone quiet.
+     */
+    public void evictExpired() {
+        evictExpired(System.nanoTime());
+    }
+
+    private void evictExpired(long now) {
+        Entry<T> oldest;
+        while ((oldest = shared.peekLast()) != null && isExpired(oldest, now)) {
+            if (shared.removeLastOccurrence(oldest)) {
+                sharedSize.decrementAndGet();
+                evict(oldest);
+            }
+        }
+    }
+
+    /**
+     * Destroys all idle instances. Instances that are borrowed at the time are not affected.
+     */
+    public void clear() {
+        Entry<T> entry;
+        while ((entry = shared.pollFirst()) != null) {
+            sharedSize.decrementAndGet();
+            destroyer.accept(entry.instance);
+        }
+    }
+
+    private boolean isExpired(Entry<T> entry, long now) {
+        return now - entry.returnedAt > maxIdleNanos;
+    }
+
+    private void evict(Entry<T> entry) {
+        evictions.increment();
+        destroyer.accept(entry.instance);
+    }
+
+    public String getName() { return name; }
+    public int getMaxSize() { return maxSize; }
+
+    /** @return number of borrows served by an idle instance */
+    public long getHits() { return hits.sum(); }
+
+    /** @return number of borrows that had to create a new instance */
+    public long getMisses() { return misses.sum(); }
+
+    /** @return number of idle instances destroyed because they exceeded the idle timeout */
+    public long getEvictions() { return evictions.sum(); }
+
+    /** @return number of idle instances */
+    public int getIdleCount() { return sharedSize.get(); }
+
+    @Override
+    public String toString() {
+        return "BeanPool[" + name + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions() + ", idle=" + getIdleCount() + "]";
+    }
+
+    private static final class Entry<T> {
+        private final T instance;
+        private final long returnedAt;
+
+        Entry(T instance, long returnedAt) {
+            this.instance = instance;
+            this.returnedAt = returnedAt;
+        }
+    }
+}
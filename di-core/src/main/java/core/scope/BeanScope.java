@@ -0,0 +1,51 @@
+package core.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * Storage strategy for the instances of a bean scope. Every scope a definition can name with
+ * {@code @Scope} is backed by an implementation of this interface: the built-in SINGLETON,
+ * PROTOTYPE, THREAD and CONTEXT scopes as well as custom scopes registered with
+ * {@code ApplicationContext.registerScope(String, BeanScope)}, such as a per-tenant or
+ * per-session scope.
+ *
+ * The container calls {@link #get(String, Supplier)} on every lookup of a bean in the scope and
+ * registers the bean's {@code @PreDestroy} callbacks through
+ * {@link #registerDestructionCallback(String, Runnable)} right after creating an instance, while
+ * still inside the supplier. Implementations run the callbacks when the instance leaves the
+ * scope other than by {@link #remove(String)}.
+ *
+ * Implementations must be thread-safe, and the supplier may itself look up further beans of the
+ * same scope, so implementations must not hold a lock across the supplier that those nested
+ * lookups would need. {@link ConcurrentBeanScope} is a ready-made concurrent implementation.
+ */
+public interface BeanScope {
+
+    /**
+     * Returns the instance stored under the given name, creating it with the supplier if the
+     * scope does not hold one yet.
+     *
+     * @param name    unique name of the bean definition
+     * @param creator creates a fully initialized instance
+     * @return the scoped instance
+     */
+    Object get(String name, Supplier<?> creator);
+
+    /**
+     * Removes the instance stored under the given name without running its destruction
+     * callback, which is dropped as well.
+     *
+     * @param name unique name of the bean definition
+     * @return the removed instance, or null if the scope held none
+     */
+    Object remove(String name);
+
+    /**
+     * Registers a callback to run when the instance stored under the given name is destroyed
+     * by the scope.
+     *
+     * @param name     unique name of the bean definition
+     * @param callback runs the bean's destruction callbacks
+     */
+    void registerDestructionCallback(String name, Runnable callback);
+}
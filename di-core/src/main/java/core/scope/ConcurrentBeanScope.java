@@ -0,0 +1,130 @@
+package core.scope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Default concurrent {@link BeanScope}, also backing the built-in SINGLETON scope.
+ *
+ * Instances are spread over a power-of-two number of independent stripes by the hash of the
+ * bean name. A lookup of an existing instance is a lock-free read of one stripe followed by a
+ * volatile read; creation locks only the slot of the bean being created, so beans are never
+ * created twice and unrelated beans are created concurrently. Keeping the storage striped lets
+ * scopes that hold many instances, such as one instance per tenant or session, grow and be
+ * cleared stripe by stripe instead of contending on a single table.
+ */
+public class ConcurrentBeanScope implements BeanScope {
+
+    private static final int DEFAULT_STRIPES = Runtime.getRuntime().availableProcessors() * 4;
+
+    private final Map<String, Slot>[] stripes;
+    private final int mask;
+
+    public ConcurrentBeanScope() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param concurrency expected number of threads creating or removing instances at once; the
+     *                    stripe count is this value rounded up to a power of two
+     */
+    public ConcurrentBeanScope(int concurrency) {
+        int count = 1;
+        while (count < concurrency) {
+            count <<= 1;
+        }
+        // A generic array cannot be created directly; every element is set to a map of the right type below
+        @SuppressWarnings("unchecked")
+        Map<String, Slot>[] stripes = (Map<String, Slot>[]) new Map<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.stripes = stripes;
+        this.mask = count - 1;
+    }
+
+    private Map<String, Slot> stripe(String name) {
+        int hash = name.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    /**
+     * Returns the instance stored under the given name without creating it. This is the fast
+     * path for callers that can avoid building a supplier when the instance already exists.
+     *
+     * @return the instance, or null if none has been created
+     */
+    public Object getIfPresent(String name) {
+        Slot slot = stripe(name).get(name);
+        return slot != null ? slot.instance : null;
+    }
+
+    @Override
+    public Object get(String name, Supplier<?> creator) {
+        Map<String, Slot> stripe = stripe(name);
+        Slot slot = stripe.get(name);
+        if (slot != null) {
+            Object instance = slot.instance;
+            if (instance != null) {
+                return instance;
+            }
+        } else {
+            slot = stripe.computeIfAbsent(name, k -> new Slot());
+        }
+
+        // Monitors are reentrant, and nested beans created by the supplier lock their own slots
+        synchronized (slot) {
+            if (slot.instance == null) {
+                slot.instance = creator.get();
+            }
+            return slot.instance;
+        }
+    }
+
+    @Override
+    public Object remove(String name) {
+        Slot slot = stripe(name).remove(name);
+        return slot != null ? slot.instance : null;
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        stripe(name).computeIfAbsent(name, k -> new Slot()).destructionCallback = callback;
+    }
+
+    /**
+     * Removes every instance and runs its destruction callback. Every callback runs even if an
+     * earlier one fails; the first failure is rethrown with the others suppressed.
+     */
+    public void destroyAll() {
+        List<Runnable> callbacks = new ArrayList<>();
+        for (Map<String, Slot> stripe : stripes) {
+            for (String name : stripe.keySet()) {
+                Slot slot = stripe.remove(name);
+                if (slot != null && slot.destructionCallback != null) {
+                    callbacks.add(slot.destructionCallback);
+                }
+            }
+        }
+        ScopedInstances.runAll(callbacks);
+    }
+
+    /**
+     * @return number of instances currently held
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, Slot> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static final class Slot {
+        private volatile Object instance;
+        private volatile Runnable destructionCallback;
+    }
+}
@@ -0,0 +1,37 @@
+package core.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * The built-in CONTEXT scope, which stores instances in the {@link ScopeContext} bound to the
+ * calling thread.
+ */
+public final class ContextScope implements BeanScope {
+
+    public static final ContextScope INSTANCE = new ContextScope();
+
+    private ContextScope() {
+    }
+
+    @Override
+    public Object get(String name, Supplier<?> creator) {
+        return current(name).get(name, creator);
+    }
+
+    @Override
+    public Object remove(String name) {
+        return current(name).remove(name);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        current(name).registerDestructionCallback(name, callback);
+    }
+
+    private static ScopedInstances current(String name) {
+        return ScopeContext.current()
+                .orElseThrow(() -> new IllegalStateException("No active ScopeContext for CONTEXT-scoped bean "
+                        + name + "; look it up inside ScopeContext.run or ScopeContext.call"))
+                .instances();
+    }
+}
@@ -0,0 +1,40 @@
+package core.scope;
+
+/**
+ * A pooled bean borrowed for the duration of a try-with-resources block. Closing the handle
+ * returns the instance to its {@link BeanPool}; closing it again has no effect.
+ *
+ * <pre>
+ * try (PooledBean&lt;Parser&gt; parser = context.borrow(Parser.class)) {
+ *     parser.get().parse(input);
+ * }
+ * </pre>
+ *
+ * @param <T> type of the pooled bean
+ */
+public final class PooledBean<T> implements AutoCloseable {
+
+    private final BeanPool<T> pool;
+    private T instance;
+
+    PooledBean(BeanPool<T> pool, T instance) {
+        this.pool = pool;
+        this.instance = instance;
+    }
+
+    public T get() {
+        if (instance == null) {
+            throw new IllegalStateException("Pooled bean " + pool.getName() + " has already been returned");
+        }
+        return instance;
+    }
+
+    @Override
+    public void close() {
+        if (instance != null) {
+            T returned = instance;
+            instance = null;
+            pool.release(returned);
+        }
+    }
+}
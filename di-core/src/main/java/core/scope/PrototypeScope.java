@@ -0,0 +1,29 @@
+package core.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * The built-in PROTOTYPE scope: every lookup creates a new instance, and the container does not
+ * keep track of the instances it hands out, so their destruction callbacks never run.
+ */
+public final class PrototypeScope implements BeanScope {
+
+    public static final PrototypeScope INSTANCE = new PrototypeScope();
+
+    private PrototypeScope() {
+    }
+
+    @Override
+    public Object get(String name, Supplier<?> creator) {
+        return creator.get();
+    }
+
+    @Override
+    public Object remove(String name) {
+        return null;
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+    }
+}
@@ -0,0 +1,105 @@
+package core.scope;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * A unit of work, such as a request or a job, that owns the instances of
+ * {@code ScopeType.CONTEXT} beans. Each CONTEXT bean is created at most once per context,
+ * however often it is looked up or injected while the context is active.
+ *
+ * A context is bound to the current thread for the dynamic extent of {@link #run(Runnable)} or
+ * {@link #call(Callable)} and ends, destroying its instances, when that call returns. Bindings
+ * nest: an inner {@code run} starts a fresh context and the outer one is restored afterwards.
+ * Work handed to other threads keeps the context through {@link #wrap(Runnable)} and
+ * {@link #wrap(Callable)}, so tasks forked by a request share the request's beans. The wrapped
+ * tasks must finish before the context ends.
+ *
+ * Singleton beans outlive any context and should obtain CONTEXT beans through a
+ * {@code Provider} or a {@code @Lazy} interface, both of which look the bean up in whichever
+ * context is active at the time.
+ */
+public final class ScopeContext {
+
+    private static final ThreadLocal<ScopeContext> CURRENT = new ThreadLocal<>();
+
+    private final ScopedInstances instances = new ScopedInstances();
+
+    private ScopeContext() {
+    }
+
+    /**
+     * Runs the task in a new context and ends the context when the task completes.
+     */
+    public static void run(Runnable task) {
+        ScopeContext context = new ScopeContext();
+        try {
+            context.wrap(task).run();
+        } finally {
+            context.instances.end();
+        }
+    }
+
+    /**
+     * Calls the task in a new context and ends the context when the task completes.
+     */
+    public static <T> T call(Callable<T> task) throws Exception {
+        ScopeContext context = new ScopeContext();
+        try {
+            return context.wrap(task).call();
+        } finally {
+            context.instances.end();
+        }
+    }
+
+    /**
+     * @return the context bound to the calling thread, if any
+     */
+    public static Optional<ScopeContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns a task that runs with this context bound to whichever thread executes it. The
+     * context is not ended when the wrapped task completes.
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            ScopeContext previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Returns a task that is called with this context bound to whichever thread executes it.
+     * The context is not ended when the wrapped task completes.
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            ScopeContext previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(ScopeContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public ScopedInstances instances() {
+        return instances;
+    }
+}
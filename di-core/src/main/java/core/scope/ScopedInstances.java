@@ -0,0 +1,129 @@
+package core.scope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The bean instances living in one scope: one thread for {@code ScopeType.THREAD}, one
+ * {@link ScopeContext} for {@code ScopeType.CONTEXT}.
+ *
+ * Lookups of existing instances read a concurrent map without locking. As in
+ * {@link ConcurrentBeanScope}, creation locks only the slot of the bean being created, which
+ * keeps a bean from being created twice when several threads share a context. No lock of the
+ * scope as a whole is held while a bean is created, so its creation can look up beans of this
+ * or any other scope without taking locks in an order that another thread could reverse. Ending
+ * the scope runs the destruction callbacks in reverse creation order, so a bean is destroyed
+ * before the scoped beans it depends on.
+ */
+public final class ScopedInstances implements BeanScope {
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>();
+    private volatile boolean ended;
+
+    /**
+     * @throws IllegalStateException if the scope has already ended
+     */
+    @Override
+    public Object get(String name, Supplier<?> creator) {
+        Slot slot = slots.get(name);
+        if (slot != null) {
+            Object instance = slot.instance;
+            if (instance != null) {
+                return instance;
+            }
+        } else {
+            checkActive();
+            slot = slots.computeIfAbsent(name, k -> new Slot());
+        }
+
+        synchronized (slot) {
+            if (slot.instance == null) {
+                checkActive();
+                slot.instance = creator.get();
+            }
+            return slot.instance;
+        }
+    }
+
+    @Override
+    public Object remove(String name) {
+        synchronized (this) {
+            destructionCallbacks.remove(name);
+        }
+        Slot slot = slots.remove(name);
+        return slot != null ? slot.instance : null;
+    }
+
+    @Override
+    public synchronized void registerDestructionCallback(String name, Runnable callback) {
+        checkActive();
+        destructionCallbacks.put(name, callback);
+    }
+
+    private void checkActive() {
+        if (ended) {
+            throw new IllegalStateException("Scope has already ended");
+        }
+    }
+
+    /**
+     * Ends the scope and destroys its instances, most recently created first. Every callback
+     * runs even if an earlier one fails; the first failure is rethrown with the others
+     * suppressed. Ending a scope twice has no effect.
+     */
+    public void end() {
+        List<Runnable> callbacks;
+        synchronized (this) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            callbacks = new ArrayList<>(destructionCallbacks.values());
+            destructionCallbacks.clear();
+            slots.clear();
+        }
+        Collections.reverse(callbacks);
+        runAll(callbacks);
+    }
+
+    static void runAll(List<Runnable> callbacks) {
+        RuntimeException failure = null;
+        for (Runnable callback : callbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return number of instances created in this scope so far
+     */
+    public int size() {
+        int size = 0;
+        for (Slot slot : slots.values()) {
+            if (slot.instance != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static final class Slot {
+        private volatile Object instance;
+    }
+}
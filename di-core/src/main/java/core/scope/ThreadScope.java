@@ -0,0 +1,104 @@
+package core.scope;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Backs {@code ScopeType.THREAD}: every thread gets its own {@link ScopedInstances}, reached
+ * through a single thread-local read.
+ *
+ * A thread scope ends when the thread calls {@link #end()}, typically in a {@code finally}
+ * block at the end of a task run on a pooled thread, or when the container shuts down and calls
+ * {@link #endAll()}.
+ *
+ * Each scope remembers its thread only weakly. Scopes of threads that terminated without
+ * ending them, including virtual threads and pool workers that were discarded, are ended by
+ * whichever thread next starts a scope once the number of scopes has doubled since the last
+ * sweep, so their instances are destroyed and released even while the container keeps running.
+ */
+public final class ThreadScope implements BeanScope {
+
+    private final ThreadLocal<ScopedInstances> current = new ThreadLocal<>();
+    private static final int MIN_SWEEP_THRESHOLD = 64;
+    private static final System.Logger LOGGER = System.getLogger(ThreadScope.class.getName());
+
+    private final Map<ScopedInstances, WeakReference<Thread>> active = new ConcurrentHashMap<>();
+    private final AtomicInteger sweepThreshold = new AtomicInteger(MIN_SWEEP_THRESHOLD);
+
+    /**
+     * @return the instances of the calling thread, starting its scope on first access
+     */
+    public ScopedInstances instances() {
+        ScopedInstances instances = current.get();
+        if (instances == null) {
+            instances = new ScopedInstances();
+            current.set(instances);
+            active.put(instances, new WeakReference<>(Thread.currentThread()));
+            if (active.size() >= sweepThreshold.get()) {
+                endTerminated();
+            }
+        }
+        return instances;
+    }
+
+    /**
+     * Ends the scopes of threads that are no longer alive.
+     */
+    private void endTerminated() {
+        for (Map.Entry<ScopedInstances, WeakReference<Thread>> entry : active.entrySet()) {
+            Thread thread = entry.getValue().get();
+            if ((thread == null || !thread.isAlive()) && active.remove(entry.getKey(), entry.getValue())) {
+                try {
+                    entry.getKey().end();
+                } catch (RuntimeException e) {
+                    // Not the calling thread's failure, so it must not surface from its lookup
+                    LOGGER.log(System.Logger.Level.WARNING, "Failed to end the scope of a terminated thread", e);
+                }
+            }
+        }
+        sweepThreshold.set(Math.max(MIN_SWEEP_THRESHOLD, active.size() * 2));
+    }
+
+    @Override
+    public Object get(String name, Supplier<?> creator) {
+        return instances().get(name, creator);
+    }
+
+    @Override
+    public Object remove(String name) {
+        return instances().remove(name);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        instances().registerDestructionCallback(name, callback);
+    }
+
+    /**
+     * Ends the calling thread's scope and destroys its instances. The next THREAD-scoped lookup
+     * on this thread starts a new scope.
+     */
+    public void end() {
+        ScopedInstances instances = current.get();
+        if (instances != null) {
+            current.remove();
+            active.remove(instances);
+            instances.end();
+        }
+    }
+
+    /**
+     * Ends the scopes of all threads. Threads that look up a THREAD-scoped bean afterwards fail
+     * instead of silently recreating it.
+     */
+    public void endAll() {
+        for (ScopedInstances instances : active.keySet()) {
+            if (active.remove(instances) != null) {
+                instances.end();
+            }
+        }
+    }
+}
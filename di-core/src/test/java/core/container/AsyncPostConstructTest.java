@@ -0,0 +1,43 @@
+package core.container;
+
+import core.container.fixtures.asyncinit.AsyncInitBeans;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncPostConstructTest {
+
+    @BeforeEach
+    void reset() {
+        AsyncInitBeans.reset();
+    }
+
+    @Test
+    void asynchronousCallbacksOverlapAndFinishBeforeDependentsAreCreated() throws Exception {
+        try (DIContainer container = new DIContainer("core.container.fixtures.asyncinit")) {
+            assertTrue(container.getBean(AsyncInitBeans.FirstCache.class).warm);
+            assertTrue(container.getBean(AsyncInitBeans.SecondCache.class).warm);
+            assertTrue(container.getBean(AsyncInitBeans.Connection.class).open);
+            assertTrue(container.getBean(AsyncInitBeans.Service.class).dependenciesReady);
+        }
+    }
+
+    @Test
+    void failedAsynchronousCallbackFailsTheStartup() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.asyncfailure"));
+
+        assertTrue(hasCause(failure, "connection refused"), () -> "Unexpected failure: " + failure);
+    }
+
+    private static boolean hasCause(Throwable failure, String message) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (message.equals(cause.getMessage())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package core.container;
+
+import core.container.fixtures.registry.RegistryBeans;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanRegistryTest {
+
+    @Test
+    void interfacesAndSuperclassesResolveToTheirOnlyImplementation() {
+        BeanRegistry registry = new BeanRegistry();
+        BeanDefinition store = register(registry, RegistryBeans.MemoryStore.class);
+        registry.refresh();
+
+        assertSame(store, registry.resolve(RegistryBeans.Store.class));
+        assertSame(store, registry.resolve(RegistryBeans.AbstractStore.class));
+        assertSame(store, registry.resolve(RegistryBeans.MemoryStore.class));
+        assertSame(store, registry.resolve(Object.class));
+    }
+
+    @Test
+    void primaryCandidateWinsAnAmbiguousLookup() {
+        BeanRegistry registry = new BeanRegistry();
+        register(registry, RegistryBeans.SystemClock.class);
+        BeanDefinition fixed = register(registry, RegistryBeans.FixedClock.class);
+        registry.refresh();
+
+        assertSame(fixed, registry.resolve(RegistryBeans.Clock.class));
+    }
+
+    @Test
+    void ambiguousLookupsFailNamingTheRequestedType() {
+        BeanRegistry registry = new BeanRegistry();
+        BeanDefinition local = register(registry, RegistryBeans.LocalCache.class);
+        register(registry, RegistryBeans.SharedCache.class);
+        register(registry, RegistryBeans.FastQueue.class);
+        register(registry, RegistryBeans.SafeQueue.class);
+        registry.refresh();
+
+        RuntimeException none = assertThrows(RuntimeException.class, () -> registry.resolve(RegistryBeans.Cache.class));
+        assertEquals("Multiple beans found for type " + RegistryBeans.Cache.class.getName()
+                + ", but none marked as @Primary", none.getMessage());
+
+        RuntimeException several = assertThrows(RuntimeException.class, () -> registry.resolve(RegistryBeans.Queue.class));
+        assertEquals("Multiple @Primary beans found for type " + RegistryBeans.Queue.class.getName(), several.getMessage());
+
+        assertSame(local, registry.resolve(RegistryBeans.LocalCache.class));
+        assertEquals(2, registry.resolveAll(RegistryBeans.Cache.class).size());
+    }
+
+    @Test
+    void missingTypeFailsTheLookup() {
+        BeanRegistry registry = new BeanRegistry();
+        registry.refresh();
+
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> registry.resolve(RegistryBeans.Store.class));
+        assertEquals("No bean definition found for: " + RegistryBeans.Store.class.getName(), failure.getMessage());
+    }
+
+    @Test
+    void beanMethodsOfTheSameReturnTypeAreAllKeptAndAliasedIndividually() throws Exception {
+        BeanRegistry registry = new BeanRegistry();
+        BeanDefinition primary = registerBeanMethod(registry, "primaryEndpoint");
+        BeanDefinition backup = registerBeanMethod(registry, "backupEndpoint");
+
+        registry.registerAlias("fallback", primary);
+        registry.refresh();
+
+        assertSame(primary, registry.getByQualifier("fallback"));
+        assertSame(primary, registry.resolve(RegistryBeans.Endpoint.class, "primaryEndpoint"));
+        assertSame(backup, registry.resolve(RegistryBeans.Endpoint.class, "backupEndpoint"));
+        assertSame(primary, registry.getByType(RegistryBeans.Endpoint.class));
+        assertEquals(List.of(primary, backup), registry.resolveAll(RegistryBeans.Endpoint.class));
+        assertThrows(RuntimeException.class, () -> registry.resolve(RegistryBeans.Endpoint.class));
+    }
+
+    @Test
+    void aliasesRequireARegisteredDefinitionAndAnUnusedName() throws Exception {
+        BeanRegistry registry = new BeanRegistry();
+        BeanDefinition primary = registerBeanMethod(registry, "primaryEndpoint");
+        BeanDefinition backup = registerBeanMethod(registry, "backupEndpoint");
+        BeanDefinition unregistered = BeanDefinitionFactory.fromClass(RegistryBeans.MemoryStore.class);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.registerAlias("store", unregistered));
+        assertNull(registry.getByQualifier("store"));
+
+        IllegalArgumentException taken = assertThrows(IllegalArgumentException.class,
+                () -> registry.registerAlias("primaryEndpoint", backup));
+        assertTrue(taken.getMessage().contains("'primaryEndpoint'"), taken::getMessage);
+        assertSame(primary, registry.getByQualifier("primaryEndpoint"));
+    }
+
+    private static BeanDefinition register(BeanRegistry registry, Class<?> clazz) {
+        BeanDefinition def = BeanDefinitionFactory.fromClass(clazz);
+        registry.register(clazz, def);
+        return def;
+    }
+
+    private static BeanDefinition registerBeanMethod(BeanRegistry registry, String name) throws Exception {
+        BeanDefinition def = BeanDefinitionFactory.fromBeanMethod(RegistryBeans.Endpoints.class,
+                RegistryBeans.Endpoints.class.getMethod(name));
+        registry.register(RegistryBeans.Endpoint.class, def);
+        return def;
+    }
+}
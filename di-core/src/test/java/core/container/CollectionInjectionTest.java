@@ -0,0 +1,84 @@
+package core.container;
+
+import core.container.fixtures.collections.CollectionBeans;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollectionInjectionTest {
+
+    private static DIContainer container;
+
+    @BeforeAll
+    static void start() throws Exception {
+        container = new DIContainer("core.container.fixtures.collections");
+    }
+
+    @AfterAll
+    static void stop() {
+        container.close();
+    }
+
+    @Test
+    void listHoldsEveryBeanOfTheTypeInOrder() {
+        CollectionBeans.Dispatcher dispatcher = container.getBean(CollectionBeans.Dispatcher.class);
+
+        assertEquals(List.of(CollectionBeans.XmlHandler.class, CollectionBeans.JsonHandler.class,
+                CollectionBeans.CsvHandler.class), dispatcher.handlers.stream().map(Object::getClass).toList());
+        assertSame(container.getBean(CollectionBeans.XmlHandler.class), dispatcher.handlers.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> dispatcher.handlers.add(null));
+    }
+
+    @Test
+    void mapIsKeyedByQualifierOrBeanNameInTheSameOrder() {
+        CollectionBeans.Dispatcher dispatcher = container.getBean(CollectionBeans.Dispatcher.class);
+
+        assertEquals(List.of("xml", CollectionBeans.JsonHandler.class.getName(), "csvHandler"),
+                List.copyOf(dispatcher.handlersByName.keySet()));
+        assertSame(dispatcher.handlers.get(1), dispatcher.handlersByName.get(CollectionBeans.JsonHandler.class.getName()));
+        assertInstanceOf(CollectionBeans.CsvHandler.class, dispatcher.handlersByName.get("csvHandler"));
+        assertThrows(UnsupportedOperationException.class, () -> dispatcher.handlersByName.clear());
+    }
+
+    @Test
+    void collectionsAreEmptyWhenNoBeanMatches() {
+        CollectionBeans.Dispatcher dispatcher = container.getBean(CollectionBeans.Dispatcher.class);
+
+        assertTrue(dispatcher.none.isEmpty());
+        assertTrue(dispatcher.noneByName.isEmpty());
+    }
+
+    @Test
+    void qualifiedSingleInjectionPicksOneOfTheCollectedBeans() {
+        CollectionBeans.Dispatcher dispatcher = container.getBean(CollectionBeans.Dispatcher.class);
+
+        assertSame(dispatcher.handlersByName.get("xml"), dispatcher.xml);
+        assertSame(dispatcher.xml, container.getBean("xml", CollectionBeans.Handler.class));
+    }
+
+    @Test
+    void prototypeElementsAreCreatedPerInjection() {
+        CollectionBeans.Job first = container.getBean(CollectionBeans.Job.class);
+        CollectionBeans.Job second = container.getBean(CollectionBeans.Job.class);
+
+        assertSame(first.handlers.get(0), second.handlers.get(0));
+        assertNotSame(first.handlers.get(2), second.handlers.get(2));
+    }
+
+    @Test
+    void qualifiedCollectionIsRejected() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.qualifiedcollection"));
+
+        assertTrue(failure.getMessage().contains("List injection cannot be @Lazy or @Qualifier"), failure::getMessage);
+    }
+}
@@ -0,0 +1,137 @@
+package core.container;
+
+import core.condition.ConditionContext;
+import core.container.fixtures.conditions.ConditionalBeans;
+import core.scanner.BeanIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionsTest {
+
+    private static final String PACKAGE = "core.container.fixtures.conditions";
+    private static final String MISSING_CLASS_PACKAGE = "core.container.fixtures.missingclass";
+    private static final String BROKEN_LINKAGE_PACKAGE = "core.container.fixtures.brokenlinkage";
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(ConditionContext.PROFILES_PROPERTY);
+        System.clearProperty(ConditionalBeans.CACHE_PROPERTY);
+        System.clearProperty(ConditionalBeans.METRICS_PROPERTY);
+        System.clearProperty(BeanIndex.IGNORE_PROPERTY);
+        ConditionalBeans.customConditionMatches = false;
+    }
+
+    @Test
+    void defaultsWithoutAnyPropertySet() throws Exception {
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            container.getBean(ConditionalBeans.NotDev.class);
+            container.getBean(ConditionalBeans.Metrics.class);
+            assertEquals(42, container.getBean(Integer.class));
+            assertMissing(container, ConditionalBeans.DevOnly.class);
+            assertMissing(container, ConditionalBeans.RedisCache.class);
+            assertMissing(container, ConditionalBeans.Flagged.class);
+            assertMissing(container, Long.class);
+        }
+    }
+
+    @Test
+    void profilesPropertiesAndCustomConditionsSelectBeans() throws Exception {
+        System.setProperty(ConditionContext.PROFILES_PROPERTY, "dev, test");
+        System.setProperty(ConditionalBeans.CACHE_PROPERTY, "REDIS");
+        System.setProperty(ConditionalBeans.METRICS_PROPERTY, "false");
+        ConditionalBeans.customConditionMatches = true;
+
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            container.getBean(ConditionalBeans.DevOnly.class);
+            container.getBean(ConditionalBeans.RedisCache.class);
+            container.getBean(ConditionalBeans.Flagged.class);
+            assertMissing(container, ConditionalBeans.NotDev.class);
+            assertMissing(container, ConditionalBeans.Metrics.class);
+        }
+    }
+
+    @Test
+    void configurationGuardedAgainstAMissingClassIsSkippedBeforeItsBeanMethodsAreResolved() throws Exception {
+        // The bean index would load the fixtures through the application class loader, which sees the class
+        System.setProperty(BeanIndex.IGNORE_PROPERTY, "true");
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(new HidingClassLoader(previous, MISSING_CLASS_PACKAGE));
+        try (DIContainer container = new DIContainer(MISSING_CLASS_PACKAGE)) {
+            Object survivor = container.getBean("survivor", Object.class);
+            assertEquals(MISSING_CLASS_PACKAGE + ".Survivor", survivor.getClass().getName());
+            assertThrows(RuntimeException.class, () -> container.getBean("library", Object.class));
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @Test
+    void matchingConfigurationThatRefersToAMissingClassFailsStartup() {
+        System.setProperty(BeanIndex.IGNORE_PROPERTY, "true");
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(new HidingClassLoader(previous, BROKEN_LINKAGE_PACKAGE));
+        try {
+            NoClassDefFoundError failure = assertThrows(NoClassDefFoundError.class,
+                    () -> new DIContainer(BROKEN_LINKAGE_PACKAGE));
+            assertTrue(failure.getMessage().contains("MissingLibrary"), failure::getMessage);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static void assertMissing(DIContainer container, Class<?> type) {
+        assertThrows(RuntimeException.class, () -> container.getBean(type), () -> type + " should not be registered");
+    }
+
+    /**
+     * Defines the fixture classes of a package itself, as if their jar lacked {@code MissingLibrary}.
+     */
+    private static final class HidingClassLoader extends ClassLoader {
+
+        private final String packageName;
+
+        HidingClassLoader(ClassLoader parent, String packageName) {
+            super(parent);
+            this.packageName = packageName;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(packageName + ".MissingLibrary")) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(packageName + ".")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    byte[] bytes = classFile(name);
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                return loaded;
+            }
+        }
+
+        private byte[] classFile(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package core.container;
+
+import core.container.fixtures.constructors.ConstructorBeans;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstructorInjectionTest {
+
+    private static DIContainer container;
+
+    @BeforeAll
+    static void start() throws Exception {
+        container = new DIContainer("core.container.fixtures.constructors");
+    }
+
+    @AfterAll
+    static void stop() {
+        container.close();
+    }
+
+    @Test
+    void singleConstructorIsUsedWithoutInject() {
+        ConstructorBeans.Car car = container.getBean(ConstructorBeans.Car.class);
+
+        assertSame(container.getBean(ConstructorBeans.Engine.class), car.engine);
+    }
+
+    @Test
+    void injectConstructorWinsAmongSeveral() {
+        ConstructorBeans.Truck truck = container.getBean(ConstructorBeans.Truck.class);
+
+        assertEquals("inject", truck.chosen);
+        assertSame(container.getBean(ConstructorBeans.Engine.class), truck.engine);
+        assertSame(container.getBean(ConstructorBeans.Wheels.class), truck.wheels);
+    }
+
+    @Test
+    void noArgumentConstructorIsUsedAmongSeveralWithoutInject() {
+        assertEquals("default", container.getBean(ConstructorBeans.Bike.class).chosen);
+    }
+
+    @Test
+    void severalConstructorsWithoutInjectOrNoArgumentConstructorFailStartup() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.noconstructor"));
+
+        assertTrue(failure.getMessage().contains("No @Inject or no-argument constructor found"), failure::getMessage);
+    }
+
+    @Test
+    void constructorCycleIsReportedByTheGraph() {
+        StackOverflowError[] overflow = new StackOverflowError[1];
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> {
+            try {
+                new DIContainer("core.container.fixtures.constructorcycle");
+            } catch (StackOverflowError e) {
+                overflow[0] = e;
+            }
+        });
+
+        assertNull(overflow[0]);
+        assertTrue(failure.getMessage().startsWith("Circular dependency between beans: "), failure::getMessage);
+        assertTrue(failure.getMessage().contains("ConstructorCycle$Chicken"), failure::getMessage);
+        assertTrue(failure.getMessage().contains("ConstructorCycle$Egg"), failure::getMessage);
+    }
+}
@@ -0,0 +1,83 @@
+package core.container;
+
+import core.container.fixtures.metrics.MeasuredBeans;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContainerMetricsTest {
+
+    private static final String PACKAGE = "core.container.fixtures.metrics";
+
+    @AfterEach
+    void disableMetrics() {
+        System.clearProperty(ContainerMetrics.ENABLED_PROPERTY);
+    }
+
+    @Test
+    void metricsAreAbsentUnlessEnabled() throws Exception {
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            container.getBean(MeasuredBeans.Car.class);
+
+            assertTrue(container.getMetrics().isEmpty());
+            assertTrue(container.getBeanMetrics(MeasuredBeans.Car.class).isEmpty());
+        }
+    }
+
+    @Test
+    void singletonIsCreatedOnceAndLaterLookupsAreCacheHits() throws Exception {
+        System.setProperty(ContainerMetrics.ENABLED_PROPERTY, "true");
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            BeanMetrics car = container.getBeanMetrics(MeasuredBeans.Car.class).orElseThrow();
+            long lookups = car.getLookups();
+
+            container.getBean(MeasuredBeans.Car.class);
+            container.getBean(MeasuredBeans.Car.class);
+
+            assertEquals(1, car.getCreations());
+            assertEquals(lookups + 2, car.getLookups());
+            assertEquals(car.getLookups() - 1, car.getCacheHits());
+
+            BeanMetrics engine = container.getBeanMetrics(MeasuredBeans.Engine.class).orElseThrow();
+            assertEquals(1, engine.getCreations());
+            assertTrue(car.getSelfNanos() <= car.getTotalNanos());
+        }
+    }
+
+    @Test
+    void prototypeIsCreatedOnEveryLookup() throws Exception {
+        System.setProperty(ContainerMetrics.ENABLED_PROPERTY, "true");
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            for (int i = 0; i < 3; i++) {
+                container.getBean(MeasuredBeans.Trip.class);
+            }
+
+            BeanMetrics trip = container.getBeanMetrics(MeasuredBeans.Trip.class).orElseThrow();
+            assertEquals(3, trip.getLookups());
+            assertEquals(3, trip.getCreations());
+            assertEquals(0, trip.getCacheHits());
+        }
+    }
+
+    @Test
+    void startupReportListsThePhasesAndTheBeans() throws Exception {
+        System.setProperty(ContainerMetrics.ENABLED_PROPERTY, "true");
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            ContainerMetrics metrics = container.getMetrics().orElseThrow();
+
+            assertEquals(List.of("properties", "discovery", "conditions", "registration", "dependency graph",
+                    "injection plans", "singleton creation"), List.copyOf(metrics.getStartupPhases().keySet()));
+            assertEquals(2, metrics.getAllBeanMetrics().size());
+
+            String report = metrics.startupReport(1);
+            assertTrue(report.startsWith("Container startup report"), report);
+            assertTrue(report.contains("Beans by self time (1 of 2)"), report);
+            assertFalse(report.contains("Trip"), report);
+        }
+    }
+}
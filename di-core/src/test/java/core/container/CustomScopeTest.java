@@ -0,0 +1,118 @@
+package core.container;
+
+import core.container.fixtures.customscope.TenantBeans;
+import core.scope.BeanScope;
+import core.scope.ConcurrentBeanScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomScopeTest {
+
+    private DIContainer container;
+
+    @BeforeEach
+    void start() throws Exception {
+        TenantBeans.DESTROYED.set(0);
+        container = new DIContainer("core.container.fixtures.customscope");
+    }
+
+    @AfterEach
+    void stop() {
+        container.close();
+    }
+
+    @Test
+    void beanIsStoredInTheRegisteredScopeUntilTheScopeIsCleared() {
+        ConcurrentBeanScope scope = new ConcurrentBeanScope();
+        container.registerScope(TenantBeans.SCOPE, scope);
+
+        TenantBeans.Cart cart = container.getBean(TenantBeans.Cart.class);
+        assertSame(cart, container.getBean(TenantBeans.Cart.class));
+        assertEquals(1, scope.size());
+
+        scope.destroyAll();
+
+        assertEquals(1, TenantBeans.DESTROYED.get());
+        assertNotSame(cart, container.getBean(TenantBeans.Cart.class));
+    }
+
+    @Test
+    void providerOfASingletonLooksTheBeanUpInTheCurrentScope() {
+        TenantScope scope = new TenantScope();
+        container.registerScope(TenantBeans.SCOPE, scope);
+        TenantBeans.Shop shop = container.getBean(TenantBeans.Shop.class);
+
+        scope.tenant = "acme";
+        TenantBeans.Cart acme = shop.cart.get();
+        scope.tenant = "globex";
+        TenantBeans.Cart globex = shop.cart.get();
+
+        assertNotSame(acme, globex);
+        assertSame(globex, container.getBean(TenantBeans.Cart.class));
+        scope.tenant = "acme";
+        assertSame(acme, shop.cart.get());
+
+        scope.end("acme");
+        assertEquals(1, TenantBeans.DESTROYED.get());
+        assertNotSame(acme, shop.cart.get());
+    }
+
+    @Test
+    void lookupFailsUntilTheScopeIsRegistered() {
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> container.getBean(TenantBeans.Cart.class));
+        assertTrue(failure.getMessage().contains("'" + TenantBeans.SCOPE + "'"), failure::getMessage);
+
+        container.registerScope(TenantBeans.SCOPE, new ConcurrentBeanScope());
+        container.getBean(TenantBeans.Cart.class);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> container.registerScope(TenantBeans.SCOPE, new ConcurrentBeanScope()));
+    }
+
+    /**
+     * Keeps one set of instances per tenant; the current tenant is set by the test.
+     */
+    private static final class TenantScope implements BeanScope {
+
+        private final Map<String, ConcurrentBeanScope> tenants = new ConcurrentHashMap<>();
+        volatile String tenant;
+
+        private ConcurrentBeanScope current() {
+            return tenants.computeIfAbsent(tenant, t -> new ConcurrentBeanScope());
+        }
+
+        void end(String tenant) {
+            ConcurrentBeanScope ended = tenants.remove(tenant);
+            if (ended != null) {
+                ended.destroyAll();
+            }
+        }
+
+        @Override
+        public Object get(String name, Supplier<?> creator) {
+            return current().get(name, creator);
+        }
+
+        @Override
+        public Object remove(String name) {
+            return current().remove(name);
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback) {
+            current().registerDestructionCallback(name, callback);
+        }
+    }
+}
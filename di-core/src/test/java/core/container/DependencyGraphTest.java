@@ -0,0 +1,116 @@
+package core.container;
+
+import core.container.fixtures.graphorder.DiamondBeans;
+import core.testing.JavaSources;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyGraphTest {
+
+    @Test
+    void circularDependencyFailsStartupWithThePathOfTheCycle() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.cycle"));
+
+        String message = failure.getMessage();
+        assertTrue(message.startsWith("Circular dependency between beans: "), message);
+        String[] cycle = message.substring("Circular dependency between beans: ".length()).split(" -> ");
+        assertEquals(4, cycle.length, message);
+        assertEquals(cycle[0], cycle[3], message);
+        for (String bean : List.of("First", "Second", "Third")) {
+            assertTrue(message.contains("CycleBeans$" + bean), message);
+        }
+    }
+
+    @Test
+    void missingDependencyFailsStartupNamingTheInjectionPoint() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.missingdependency"));
+
+        assertTrue(failure.getMessage().contains("Unsatisfied dependency for field "
+                + "core.container.fixtures.missingdependency.MissingDependency$Notifier.mailer"), failure::getMessage);
+        assertTrue(failure.getMessage().contains("No bean definition found for: "
+                + "core.container.fixtures.missingdependency.MissingDependency$Mailer"), failure::getMessage);
+    }
+
+    @Test
+    void levelsFollowTheDependenciesAndKeepRegistrationOrderWithinALevel() {
+        List<Class<?>> classes = List.of(DiamondBeans.Top.class, DiamondBeans.Left.class, DiamondBeans.Right.class,
+                DiamondBeans.Bottom.class, DiamondBeans.Loose.class);
+
+        for (int run = 0; run < 5; run++) {
+            DependencyGraph graph = DependencyGraph.build(registryOf(classes));
+
+            assertEquals(List.of(
+                    List.of(DiamondBeans.Bottom.class, DiamondBeans.Loose.class),
+                    List.of(DiamondBeans.Left.class, DiamondBeans.Right.class),
+                    List.of(DiamondBeans.Top.class)), beanClasses(graph.getCreationLevels()));
+        }
+    }
+
+    @Test
+    void longDependencyChainDoesNotNeedADeepStack(@TempDir Path dir) throws Exception {
+        int length = 1_000;
+        StringBuilder source = new StringBuilder("package chain;\npublic class Chain {\n");
+        for (int i = 0; i < length; i++) {
+            String dependency = i == 0 ? "" : " @core.annotations.Inject Link" + (i - 1) + " previous;";
+            source.append("@core.annotations.Component public static class Link").append(i)
+                    .append(" {").append(dependency).append(" }\n");
+        }
+        source.append("}\n");
+        Path classes = JavaSources.compile(dir, Map.of("chain.Chain", source.toString()), List.of("-proc:none"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            List<Class<?>> chain = new ArrayList<>();
+            for (int i = length - 1; i >= 0; i--) {
+                chain.add(loader.loadClass("chain.Chain$Link" + i));
+            }
+            BeanRegistry registry = registryOf(chain);
+
+            AtomicReference<DependencyGraph> graph = new AtomicReference<>();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread builder = new Thread(null, () -> {
+                try {
+                    graph.set(DependencyGraph.build(registry));
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }, "graph-builder", 128 * 1024);
+            builder.start();
+            builder.join();
+
+            assertNull(failure.get());
+            assertEquals(length, graph.get().getCreationLevels().size());
+            assertEquals("chain.Chain$Link0", graph.get().getCreationOrder().get(0).getBeanClass().getName());
+        }
+    }
+
+    private static BeanRegistry registryOf(List<Class<?>> classes) {
+        BeanRegistry registry = new BeanRegistry();
+        for (Class<?> clazz : classes) {
+            registry.register(clazz, BeanDefinitionFactory.fromClass(clazz));
+        }
+        registry.refresh();
+        return registry;
+    }
+
+    private static List<List<Class<?>>> beanClasses(List<List<BeanDefinition>> levels) {
+        return levels.stream()
+                .map(level -> level.stream().<Class<?>>map(BeanDefinition::getBeanClass).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,19 @@
+package core.container;
+
+import core.container.fixtures.factorylifecycle.FactoryLifecycleBeans;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FactoryMethodLifecycleTest {
+
+    @Test
+    void membersOfTheReturnedClassAreInjectedAndCalled() throws Exception {
+        FactoryLifecycleBeans.destroyed = false;
+        try (DIContainer container = new DIContainer("core.container.fixtures.factorylifecycle")) {
+            assertEquals("Hello!", container.getBean(FactoryLifecycleBeans.Greeter.class).greet());
+        }
+        assertTrue(FactoryLifecycleBeans.destroyed);
+    }
+}
@@ -0,0 +1,133 @@
+package core.container;
+
+import core.scanner.BeanIndex;
+import core.testing.JavaSources;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratedFactoryTest {
+
+    private static final String SERVICE_FILE = "META-INF/services/core.injection.GeneratedBeanFactory";
+
+    /** Every bean records the class that called its constructor. */
+    private static final Map<String, String> SOURCES = Map.of(
+            "generated.Repository", """
+                    package generated;
+                    @core.annotations.Component
+                    public class Repository {
+                    }
+                    """,
+            "generated.Service", """
+                    package generated;
+                    @core.annotations.Component
+                    public class Service {
+                        public static volatile String createdBy;
+                        public static volatile int initialized;
+                        @core.annotations.Inject
+                        Repository repository;
+                        public Service() {
+                            createdBy = new Throwable().getStackTrace()[1].getClassName();
+                        }
+                        @core.annotations.PostConstruct
+                        void init() {
+                            initialized++;
+                        }
+                        public Repository repository() {
+                            return repository;
+                        }
+                    }
+                    """,
+            "generated.Secretive", """
+                    package generated;
+                    @core.annotations.Component
+                    public class Secretive {
+                        public static volatile String createdBy;
+                        @core.annotations.Inject
+                        private Repository repository;
+                        public Secretive() {
+                            createdBy = new Throwable().getStackTrace()[1].getClassName();
+                        }
+                        public Repository repository() {
+                            return repository;
+                        }
+                    }
+                    """);
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(BeanIndex.IGNORE_PROPERTY);
+    }
+
+    @Test
+    void factoriesAreGeneratedOnlyWhenEnabled() {
+        Path classes = JavaSources.compile(directory, SOURCES, List.of());
+
+        assertFalse(Files.exists(classes.resolve("generated/Service$$DIFactory.class")));
+        assertFalse(Files.exists(classes.resolve(SERVICE_FILE)));
+    }
+
+    @Test
+    void incrementalCompilationKeepsTheFactoriesOfClassesItDidNotCompile() throws Exception {
+        Path classes = JavaSources.compile(directory, SOURCES, List.of("-Adi.factories=true"));
+        JavaSources.compile(directory, Map.of("generated.Extra", """
+                package generated;
+                @core.annotations.Component
+                public class Extra {
+                }
+                """), List.of("-Adi.factories=true"));
+
+        assertEquals(List.of("generated.Extra$$DIFactory", "generated.Repository$$DIFactory",
+                "generated.Service$$DIFactory"), Files.readAllLines(classes.resolve(SERVICE_FILE)));
+    }
+
+    @Test
+    void generatedFactoryCreatesBeansAndPrivateFieldsFallBackToReflection() throws Exception {
+        Path classes = JavaSources.compile(directory, SOURCES, List.of("-Adi.factories=true"));
+
+        assertTrue(Files.exists(classes.resolve("generated/Service$$DIFactory.class")));
+        assertFalse(Files.exists(classes.resolve("generated/Secretive$$DIFactory.class")));
+        assertEquals(List.of("generated.Repository$$DIFactory", "generated.Service$$DIFactory"),
+                Files.readAllLines(classes.resolve(SERVICE_FILE)));
+
+        // The index is read through the container's own class loader, which cannot see the compiled classes
+        System.setProperty(BeanIndex.IGNORE_PROPERTY, "true");
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, previous)) {
+            thread.setContextClassLoader(loader);
+            Class<?> service = loader.loadClass("generated.Service");
+            Class<?> secretive = loader.loadClass("generated.Secretive");
+            Class<?> repository = loader.loadClass("generated.Repository");
+
+            try (DIContainer container = new DIContainer("generated")) {
+                Object bean = container.getBean(service);
+                assertEquals("generated.Service$$DIFactory", service.getField("createdBy").get(null));
+                assertEquals(1, service.getField("initialized").get(null));
+                assertSame(container.getBean(repository), service.getMethod("repository").invoke(bean));
+
+                Object fallback = container.getBean(secretive);
+                assertNotEquals("generated.Secretive$$DIFactory", secretive.getField("createdBy").get(null));
+                assertSame(container.getBean(repository), secretive.getMethod("repository").invoke(fallback));
+            }
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
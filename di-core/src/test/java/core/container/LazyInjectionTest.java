@@ -0,0 +1,44 @@
+package core.container;
+
+import core.container.fixtures.lazy.LazyBeans;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyInjectionTest {
+
+    @BeforeEach
+    void resetCounter() {
+        LazyBeans.CONSTRUCTIONS.set(0);
+    }
+
+    @Test
+    void targetIsResolvedOnTheFirstCallOnly() throws Exception {
+        try (DIContainer container = new DIContainer("core.container.fixtures.lazy")) {
+            LazyBeans.Client client = container.getBean(LazyBeans.Client.class);
+            assertTrue(Proxy.isProxyClass(client.target().getClass()));
+            assertEquals(0, LazyBeans.CONSTRUCTIONS.get());
+
+            assertEquals("Hello, Ada", client.greet("Ada"));
+            assertEquals("Hello, Bob", client.greet("Bob"));
+
+            assertEquals(1, LazyBeans.CONSTRUCTIONS.get());
+            assertEquals(2, client.calls());
+        }
+    }
+
+    @Test
+    void exceptionsOfTheTargetReachTheCallerUnwrapped() throws Exception {
+        try (DIContainer container = new DIContainer("core.container.fixtures.lazy")) {
+            LazyBeans.Client client = container.getBean(LazyBeans.Client.class);
+
+            IllegalStateException failure = assertThrows(IllegalStateException.class, client::fail);
+            assertEquals("greeter failed", failure.getMessage());
+        }
+    }
+}
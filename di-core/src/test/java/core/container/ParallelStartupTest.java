@@ -0,0 +1,34 @@
+package core.container;
+
+import core.container.fixtures.startup.StartupBeans;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelStartupTest {
+
+    @BeforeEach
+    void reset() {
+        StartupBeans.reset();
+    }
+
+    @Test
+    void independentSingletonsAreCreatedInParallelBeforeTheirDependents() throws Exception {
+        try (DIContainer container = new DIContainer("core.container.fixtures.startup")) {
+            List<String> created = StartupBeans.CREATED;
+            assertEquals(4, created.size(), created.toString());
+            assertEquals(Set.of("left", "right"), Set.copyOf(created.subList(0, 2)));
+            assertEquals(List.of("middle", "top"), created.subList(2, 4));
+            assertFalse(created.contains("on-demand"));
+
+            container.getBean(StartupBeans.OnDemand.class);
+            assertTrue(StartupBeans.CREATED.contains("on-demand"));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package core.container;
+
+import core.ApplicationContext;
+import core.container.fixtures.childctx.ChildBeans;
+import core.container.fixtures.parentctx.ParentBeans;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParentChildContextTest {
+
+    private static final String PARENT = "core.container.fixtures.parentctx";
+    private static final String CHILD = "core.container.fixtures.childctx";
+
+    @Test
+    void childSharesTheSingletonsOfItsParent() throws Exception {
+        ParentBeans.CLOCKS.set(0);
+        try (DIContainer parent = new DIContainer(PARENT);
+             DIContainer child = new DIContainer(CHILD, parent)) {
+            ParentBeans.Clock clock = parent.getBean(ParentBeans.Clock.class);
+
+            assertSame(clock, child.getBean(ParentBeans.Clock.class));
+            assertSame(clock, child.getBean(ChildBeans.TenantService.class).clock);
+            assertSame(parent.getBean(ParentBeans.Auditor.class), child.getBean(ChildBeans.TenantService.class).auditor);
+            assertEquals(1, ParentBeans.CLOCKS.get());
+        }
+    }
+
+    @Test
+    void childDefinitionShadowsTheParentsForTheChildOnly() throws Exception {
+        try (DIContainer parent = new DIContainer(PARENT);
+             DIContainer child = new DIContainer(CHILD, parent)) {
+            assertInstanceOf(ChildBeans.TenantGreeting.class, child.getBean(ParentBeans.Greeting.class));
+            assertInstanceOf(ChildBeans.TenantGreeting.class, child.getBean(ChildBeans.TenantService.class).greeting);
+
+            assertInstanceOf(ParentBeans.DefaultGreeting.class, parent.getBean(ParentBeans.Greeting.class));
+            // The parent's own beans keep the parent's definition, even when obtained through the child
+            assertInstanceOf(ParentBeans.DefaultGreeting.class, child.getBean(ParentBeans.Auditor.class).greeting);
+        }
+    }
+
+    @Test
+    void parentCannotSeeTheBeansOfItsChildren() throws Exception {
+        try (ApplicationContext parent = new ApplicationContext(new DIContainer(PARENT));
+             ApplicationContext child = parent.createChild(CHILD)) {
+            child.getObject(ChildBeans.TenantService.class);
+
+            assertThrows(RuntimeException.class, () -> parent.getObject(ChildBeans.TenantService.class));
+            assertThrows(RuntimeException.class, () -> parent.getObject(ChildBeans.TenantGreeting.class));
+        }
+    }
+
+    @Test
+    void childGraphOrdersOnlyItsOwnDefinitionsAndTreatsParentBeansAsExisting() {
+        BeanRegistry parent = registry(null, List.of(ParentBeans.DefaultGreeting.class, ParentBeans.Clock.class,
+                ParentBeans.Auditor.class));
+        BeanRegistry child = registry(parent, List.of(ChildBeans.TenantService.class, ChildBeans.TenantGreeting.class));
+
+        DependencyGraph graph = DependencyGraph.build(child);
+
+        assertEquals(List.of(List.of(ChildBeans.TenantGreeting.class), List.of(ChildBeans.TenantService.class)),
+                graph.getCreationLevels().stream()
+                        .map(level -> level.stream().map(BeanDefinition::getBeanClass).collect(Collectors.toList()))
+                        .collect(Collectors.toList()));
+        BeanDefinition service = graph.getCreationOrder().get(1);
+        assertEquals(List.of(ChildBeans.TenantGreeting.class, ParentBeans.Clock.class, ParentBeans.Auditor.class),
+                graph.getDependencies(service).stream().map(BeanDefinition::getBeanClass).collect(Collectors.toList()));
+    }
+
+    private static BeanRegistry registry(BeanRegistry parent, List<Class<?>> classes) {
+        BeanRegistry registry = new BeanRegistry(parent);
+        for (Class<?> clazz : classes) {
+            registry.register(clazz, BeanDefinitionFactory.fromClass(clazz));
+        }
+        registry.refresh();
+        return registry;
+    }
+}
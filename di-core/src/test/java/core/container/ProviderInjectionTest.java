@@ -0,0 +1,49 @@
+package core.container;
+
+import core.container.fixtures.providers.ProviderBeans;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ProviderInjectionTest {
+
+    private static DIContainer container;
+
+    @BeforeAll
+    static void start() throws Exception {
+        container = new DIContainer("core.container.fixtures.providers");
+    }
+
+    @AfterAll
+    static void stop() {
+        container.close();
+    }
+
+    @Test
+    void prototypeProviderCreatesAnInstancePerCall() {
+        ProviderBeans.Office office = container.getBean(ProviderBeans.Office.class);
+
+        assertNotSame(office.tickets.get(), office.tickets.get());
+        assertNotSame(office.ticketFactory.getObject(), office.ticketFactory.getObject());
+    }
+
+    @Test
+    void singletonProviderReturnsTheContainersInstance() {
+        ProviderBeans.Office office = container.getBean(ProviderBeans.Office.class);
+
+        assertSame(container.getBean(ProviderBeans.Registry.class), office.registry.get());
+        assertSame(office.registry.get(), office.registry.get());
+    }
+
+    @Test
+    void providerBreaksAConstructorCycleUntilItIsCalled() {
+        ProviderBeans.Owner owner = container.getBean(ProviderBeans.Owner.class);
+        ProviderBeans.Pet pet = owner.pet.get();
+
+        assertSame(container.getBean(ProviderBeans.Pet.class), pet);
+        assertSame(owner, pet.owner);
+    }
+}
@@ -0,0 +1,30 @@
+package core.container;
+
+import core.container.fixtures.qualifiers.QualifiedBeans;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QualifierTest {
+
+    @Test
+    void qualifiedFieldsAndNamedLookupsSelectAmongBeansOfOneType() throws Exception {
+        try (DIContainer container = new DIContainer("core.container.fixtures.qualifiers")) {
+            QualifiedBeans.Client client = container.getBean(QualifiedBeans.Client.class);
+            assertEquals("primary", client.primary.url());
+            assertEquals("backup", client.backup.url());
+            assertEquals("backup", container.getBean("backup", QualifiedBeans.Endpoint.class).url());
+            assertThrows(RuntimeException.class, () -> container.getBean(QualifiedBeans.Endpoint.class));
+        }
+    }
+
+    @Test
+    void twoBeansWithTheSameNameAreRejected() {
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> new DIContainer("core.container.fixtures.duplicatenames"));
+
+        assertTrue(failure.getMessage().contains("'store'"), failure::getMessage);
+    }
+}
@@ -0,0 +1,96 @@
+package core.container;
+
+import core.container.fixtures.scopes.ScopedBeans;
+import core.scope.ScopeContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScopesTest {
+
+    private static DIContainer container;
+
+    @BeforeAll
+    static void start() throws Exception {
+        container = new DIContainer("core.container.fixtures.scopes");
+    }
+
+    @AfterAll
+    static void stop() {
+        container.close();
+    }
+
+    @Test
+    void lazyProxyInASingletonReachesTheInstanceOfTheCallingThread() throws InterruptedException {
+        ScopedBeans.Holder holder = container.getBean(ScopedBeans.Holder.class);
+        Object mine = holder.perThread.self();
+        AtomicReference<Object> other = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> other.set(holder.perThread.self()));
+        thread.start();
+        thread.join();
+
+        assertSame(mine, holder.perThread.self());
+        assertSame(mine, container.getBean(ScopedBeans.PerThread.class));
+        assertNotSame(mine, other.get());
+    }
+
+    @Test
+    void endingTheThreadScopeStartsAFreshOne() {
+        ScopedBeans.PerThread before = container.getBean(ScopedBeans.PerThread.class);
+
+        container.endThreadScope();
+
+        assertNotSame(before, container.getBean(ScopedBeans.PerThread.class));
+    }
+
+    @Test
+    void contextBeansAreSharedWithinAContextAcrossThreads() throws Exception {
+        ScopedBeans.Holder holder = container.getBean(ScopedBeans.Holder.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Object[] first = ScopeContext.call(() -> {
+                Callable<Object> forked = ScopeContext.current().orElseThrow().wrap(holder.perContext::get);
+                return new Object[]{holder.perContext.get(), executor.submit(forked).get()};
+            });
+            Object second = ScopeContext.call(holder.perContext::get);
+
+            assertSame(first[0], first[1]);
+            assertNotSame(first[0], second);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void contextBeanLookupOutsideAContextFails() {
+        assertThrows(RuntimeException.class, () -> container.getBean(ScopedBeans.PerContext.class));
+    }
+
+    @Test
+    void singletonCannotInjectAThreadScopedBeanDirectly() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.scopeviolation"));
+
+        assertTrue(failure.getMessage().contains("cannot inject THREAD-scoped bean"), failure::getMessage);
+    }
+
+    @Test
+    void singletonCannotTakeAContextScopedBeanAsAConstructorArgument() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.contextviolation"));
+
+        assertTrue(failure.getMessage().contains("cannot inject CONTEXT-scoped bean"), failure::getMessage);
+        assertTrue(failure.getMessage().contains("parameter 0 of constructor"), failure::getMessage);
+    }
+}
@@ -0,0 +1,65 @@
+package core.container;
+
+import core.container.fixtures.shutdown.ShutdownBeans;
+import core.container.fixtures.shutdowntimeout.TimeoutBeans;
+import core.scope.BeanPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShutdownTest {
+
+    @BeforeEach
+    void reset() {
+        ShutdownBeans.reset();
+        TimeoutBeans.DESTROYED.clear();
+    }
+
+    @Test
+    void singletonsAreDestroyedInReverseDependencyOrderWithIndependentOnesInParallel() throws Exception {
+        DIContainer container = new DIContainer("core.container.fixtures.shutdown");
+        BeanPool<ShutdownBeans.Buffer> pool = container.getPool(ShutdownBeans.Buffer.class);
+        pool.release(pool.borrow());
+
+        container.close();
+
+        List<String> destroyed = ShutdownBeans.DESTROYED;
+        assertEquals(5, destroyed.size(), destroyed.toString());
+        assertEquals("buffer", destroyed.get(0));
+        assertEquals(Set.of("orders", "billing"), Set.copyOf(destroyed.subList(1, 3)));
+        assertEquals(List.of("repository", "database"), destroyed.subList(3, 5));
+    }
+
+    @Test
+    void closeOnlyActsOnce() throws Exception {
+        DIContainer container = new DIContainer("core.container.fixtures.shutdown");
+
+        container.close();
+        container.close();
+
+        assertEquals(4, ShutdownBeans.DESTROYED.size());
+    }
+
+    @Test
+    void hangingDestructionIsAbandonedAfterTheTimeout() throws Exception {
+        System.setProperty(DIContainer.SHUTDOWN_TIMEOUT_PROPERTY, "200ms");
+        DIContainer container;
+        try {
+            container = new DIContainer("core.container.fixtures.shutdowntimeout");
+        } finally {
+            System.clearProperty(DIContainer.SHUTDOWN_TIMEOUT_PROPERTY);
+        }
+
+        long start = System.nanoTime();
+        container.close();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 5_000, () -> "close() took " + elapsedMillis + " ms");
+        assertEquals(List.of("base"), TimeoutBeans.DESTROYED);
+    }
+}
@@ -0,0 +1,47 @@
+package core.container;
+
+import core.container.fixtures.singleton.SlowSingleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SingletonConcurrencyTest {
+
+    @Test
+    void concurrentGetBeanCreatesOneSingleton() throws Exception {
+        SlowSingleton.CONSTRUCTIONS.set(0);
+        try (DIContainer container = new DIContainer("core.container.fixtures.singleton")) {
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<SlowSingleton>> lookups = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    lookups.add(executor.submit(() -> {
+                        start.await();
+                        return container.getBean(SlowSingleton.class);
+                    }));
+                }
+                start.countDown();
+
+                Set<SlowSingleton> instances = ConcurrentHashMap.newKeySet();
+                for (Future<SlowSingleton> lookup : lookups) {
+                    instances.add(lookup.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(1, instances.size());
+                assertEquals(1, SlowSingleton.CONSTRUCTIONS.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package core.container;
+
+import core.condition.ConditionContext;
+import core.container.fixtures.snapshot.SnapshotBeans;
+import core.property.MapPropertySource;
+import core.property.PropertySources;
+import core.scanner.ClassPathScanner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupSnapshotTest {
+
+    private static final String PACKAGE = "core.container.fixtures.snapshot";
+    private static final ClassLoader LOADER = StartupSnapshotTest.class.getClassLoader();
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void enableSnapshot() {
+        file = directory.resolve("definitions.snapshot");
+        System.setProperty(StartupSnapshot.PATH_PROPERTY, file.toString());
+    }
+
+    @AfterEach
+    void disableSnapshot() {
+        System.clearProperty(StartupSnapshot.PATH_PROPERTY);
+        System.clearProperty(SnapshotBeans.FEATURE_PROPERTY);
+        System.clearProperty(PropertySources.CONFIG_PROPERTY);
+    }
+
+    @Test
+    void definitionsSurviveARoundTrip() throws Exception {
+        Method factoryMethod = SnapshotBeans.Factories.class.getMethod("builder",
+                SnapshotBeans.Plain.class, int.class);
+        List<BeanDefinition> definitions = List.of(
+                BeanDefinitionFactory.fromClass(SnapshotBeans.Plain.class),
+                BeanDefinitionFactory.fromClass(SnapshotBeans.Factories.class),
+                BeanDefinitionFactory.fromBeanMethod(SnapshotBeans.Factories.class, factoryMethod));
+
+        snapshot(Map.of()).write(definitions, Map.of());
+        List<BeanDefinition> read = snapshot(Map.of()).read(LOADER, conditions("off")).orElseThrow();
+
+        assertEquals(definitions.stream().map(StartupSnapshotTest::describe).toList(),
+                read.stream().map(StartupSnapshotTest::describe).toList());
+    }
+
+    @Test
+    void snapshotIsStaleOnceAConsultedConditionInputChanges() {
+        ConditionContext recorded = conditions("on");
+        assertTrue(recorded.matches(SnapshotBeans.Feature.class));
+        snapshot(Map.of()).write(List.of(BeanDefinitionFactory.fromClass(SnapshotBeans.Feature.class)), recorded.getRecordedInputs());
+
+        assertTrue(snapshot(Map.of()).read(LOADER, conditions("on")).isPresent());
+        assertFalse(snapshot(Map.of()).read(LOADER, conditions("off")).isPresent());
+    }
+
+    @Test
+    void snapshotIsStaleOnceTheScanSettingsChange() {
+        snapshot(Map.of()).write(List.of(BeanDefinitionFactory.fromClass(SnapshotBeans.Plain.class)), Map.of());
+
+        Map<String, String> excluding = Map.of(ClassPathScanner.EXCLUDES_PROPERTY, "*.Plain");
+
+        assertFalse(snapshot(excluding).read(LOADER, conditions("off")).isPresent());
+    }
+
+    @Test
+    void containerReusesItsSnapshotAndStillAppliesConditions() throws Exception {
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            assertThrows(RuntimeException.class, () -> container.getBean(SnapshotBeans.Feature.class));
+        }
+        assertTrue(Files.isRegularFile(file));
+        FileTime written = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, written);
+
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            container.getBean(SnapshotBeans.Plain.class);
+        }
+        assertEquals(written, Files.getLastModifiedTime(file));
+
+        System.setProperty(SnapshotBeans.FEATURE_PROPERTY, "on");
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            container.getBean(SnapshotBeans.Feature.class);
+        }
+    }
+
+    @Test
+    void snapshotCanBeEnabledFromTheConfigFile() throws Exception {
+        System.clearProperty(StartupSnapshot.PATH_PROPERTY);
+        Path config = directory.resolve("di.properties");
+        Files.writeString(config, StartupSnapshot.PATH_PROPERTY + "=" + file.toString().replace("\\", "/") + "\n");
+        System.setProperty(PropertySources.CONFIG_PROPERTY, config.toString());
+
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            container.getBean(SnapshotBeans.Plain.class);
+        }
+
+        assertTrue(Files.isRegularFile(file));
+    }
+
+    private StartupSnapshot snapshot(Map<String, String> settings) {
+        Map<String, String> properties = new HashMap<>(settings);
+        properties.put(StartupSnapshot.PATH_PROPERTY, file.toString());
+        return StartupSnapshot.forPackage(PACKAGE, new MapPropertySource("test", properties), LOADER, LOADER).orElseThrow();
+    }
+
+    private static ConditionContext conditions(String feature) {
+        MapPropertySource properties = new MapPropertySource("test", Map.of(SnapshotBeans.FEATURE_PROPERTY, feature));
+        return new ConditionContext(Set.of(ConditionContext.DEFAULT_PROFILE), properties, LOADER);
+    }
+
+    private static String describe(BeanDefinition def) {
+        Optional<Method> method = def.getFactoryMethod();
+        return String.join("|", def.getBeanClass().getName(), def.getScope().name(), def.getScopeName(),
+                String.valueOf(def.isLazy()), String.valueOf(def.isPrimary()), def.getQualifier(),
+                method.map(Method::toGenericString).orElse(""));
+    }
+}
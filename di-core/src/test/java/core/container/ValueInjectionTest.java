@@ -0,0 +1,55 @@
+package core.container;
+
+import core.container.fixtures.values.ValueBeans;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueInjectionTest {
+
+    private static final String PACKAGE = "core.container.fixtures.values";
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(ValueBeans.PORT_PROPERTY);
+        System.clearProperty(ValueBeans.TIMEOUT_PROPERTY);
+    }
+
+    @Test
+    void defaultsAreConvertedToTheInjectionPointType() throws Exception {
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            ValueBeans.Server server = container.getBean(ValueBeans.Server.class);
+            assertEquals(8080, server.port);
+            assertEquals(Duration.ofSeconds(30), server.timeout);
+            assertEquals(TimeUnit.MINUTES, server.unit);
+            assertFalse(server.secure);
+            assertEquals(1_048_576L, container.getBean(Long.class));
+        }
+    }
+
+    @Test
+    void propertiesOverrideTheDefaults() throws Exception {
+        System.setProperty(ValueBeans.PORT_PROPERTY, "9090");
+        System.setProperty(ValueBeans.TIMEOUT_PROPERTY, "PT1M");
+        try (DIContainer container = new DIContainer(PACKAGE)) {
+            ValueBeans.Server server = container.getBean(ValueBeans.Server.class);
+            assertEquals(9090, server.port);
+            assertEquals(Duration.ofMinutes(1), server.timeout);
+        }
+    }
+
+    @Test
+    void malformedValueFailsStartup() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> new DIContainer("core.container.fixtures.badvalue"));
+
+        assertTrue(failure.getMessage().contains("Cannot convert value 'eighty'"), failure::getMessage);
+    }
+}
@@ -0,0 +1,13 @@
+package core.container.fixtures.asyncfailure;
+
+import core.annotations.Component;
+import core.annotations.PostConstruct;
+
+@Component
+public class FailingInit {
+
+    @PostConstruct(async = true)
+    void connect() {
+        throw new IllegalStateException("connection refused");
+    }
+}
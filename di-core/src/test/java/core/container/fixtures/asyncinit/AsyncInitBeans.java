@@ -0,0 +1,88 @@
+package core.container.fixtures.asyncinit;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.PostConstruct;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two singletons whose asynchronous initializations can only finish together, one singleton
+ * initialized through a returned stage, and a singleton depending on all three.
+ */
+public final class AsyncInitBeans {
+
+    /** Only passes when both warm-ups are running at the same time. */
+    public static volatile CyclicBarrier warmUpsTogether = new CyclicBarrier(2);
+
+    private AsyncInitBeans() {
+    }
+
+    public static void reset() {
+        warmUpsTogether = new CyclicBarrier(2);
+    }
+
+    private static void awaitOtherWarmUp() {
+        try {
+            warmUpsTogether.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Asynchronous initializations did not overlap", e);
+        }
+    }
+
+    @Component
+    public static class FirstCache {
+        public volatile boolean warm;
+
+        @PostConstruct(async = true)
+        void warmUp() {
+            awaitOtherWarmUp();
+            warm = true;
+        }
+    }
+
+    @Component
+    public static class SecondCache {
+        public volatile boolean warm;
+
+        @PostConstruct(async = true)
+        void warmUp() {
+            awaitOtherWarmUp();
+            warm = true;
+        }
+    }
+
+    @Component
+    public static class Connection {
+        public volatile boolean open;
+
+        @PostConstruct
+        CompletionStage<Void> open() {
+            return CompletableFuture.runAsync(() -> {
+                sleep(50);
+                open = true;
+            });
+        }
+    }
+
+    @Component
+    public static class Service {
+        public final boolean dependenciesReady;
+
+        @Inject
+        public Service(FirstCache first, SecondCache second, Connection connection) {
+            dependenciesReady = first.warm && second.warm && connection.open;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package core.container.fixtures.badvalue;
+
+import core.annotations.Component;
+import core.annotations.Value;
+
+@Component
+public class BadValue {
+
+    @Value("${values.test.port:eighty}")
+    int port;
+}
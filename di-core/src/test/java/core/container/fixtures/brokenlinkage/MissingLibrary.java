@@ -0,0 +1,7 @@
+package core.container.fixtures.brokenlinkage;
+
+/**
+ * Present at compile time, hidden from the container at run time by the test.
+ */
+public class MissingLibrary {
+}
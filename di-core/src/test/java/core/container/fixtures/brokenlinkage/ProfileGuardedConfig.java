@@ -0,0 +1,19 @@
+package core.container.fixtures.brokenlinkage;
+
+import core.annotations.Bean;
+import core.annotations.Configuration;
+import core.annotations.Profile;
+
+/**
+ * Its profile matches, but its {@code @Bean} method refers to a class that is missing at run
+ * time and that no {@code @ConditionalOnClass} guards against.
+ */
+@Configuration
+@Profile("!prod")
+public class ProfileGuardedConfig {
+
+    @Bean
+    public MissingLibrary library() {
+        return new MissingLibrary();
+    }
+}
@@ -0,0 +1,34 @@
+package core.container.fixtures.childctx;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.container.fixtures.parentctx.ParentBeans;
+
+/**
+ * The beans of a child context: one shadows a parent bean, one depends on parent beans.
+ */
+public final class ChildBeans {
+
+    private ChildBeans() {
+    }
+
+    @Component
+    public static class TenantGreeting implements ParentBeans.Greeting {
+        @Override
+        public String greet() {
+            return "hello, tenant";
+        }
+    }
+
+    @Component
+    public static class TenantService {
+        @Inject
+        public ParentBeans.Greeting greeting;
+
+        @Inject
+        public ParentBeans.Clock clock;
+
+        @Inject
+        public ParentBeans.Auditor auditor;
+    }
+}
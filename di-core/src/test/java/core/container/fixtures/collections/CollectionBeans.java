@@ -0,0 +1,78 @@
+package core.container.fixtures.collections;
+
+import core.annotations.Bean;
+import core.annotations.Component;
+import core.annotations.Configuration;
+import core.annotations.Inject;
+import core.annotations.Order;
+import core.annotations.Qualifier;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Three handlers, declared out of order, collected into a list and a map.
+ */
+public final class CollectionBeans {
+
+    private CollectionBeans() {
+    }
+
+    public interface Handler {
+    }
+
+    public interface Unimplemented {
+    }
+
+    @Component
+    @Order(2)
+    public static class JsonHandler implements Handler {
+    }
+
+    @Component
+    @Order(1)
+    @Qualifier("xml")
+    public static class XmlHandler implements Handler {
+    }
+
+    public static class CsvHandler implements Handler {
+    }
+
+    @Configuration
+    public static class Handlers {
+        @Bean
+        @Order(3)
+        @Scope(ScopeType.PROTOTYPE)
+        public Handler csvHandler() {
+            return new CsvHandler();
+        }
+    }
+
+    @Component
+    public static class Dispatcher {
+        @Inject
+        public List<Handler> handlers;
+
+        @Inject
+        public Map<String, Handler> handlersByName;
+
+        @Inject
+        public List<Unimplemented> none;
+
+        @Inject
+        public Map<String, Unimplemented> noneByName;
+
+        @Inject
+        @Qualifier("xml")
+        public Handler xml;
+    }
+
+    @Component
+    @Scope(ScopeType.PROTOTYPE)
+    public static class Job {
+        @Inject
+        public List<Handler> handlers;
+    }
+}
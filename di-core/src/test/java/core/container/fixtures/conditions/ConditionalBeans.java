@@ -0,0 +1,74 @@
+package core.container.fixtures.conditions;
+
+import core.annotations.Bean;
+import core.annotations.Component;
+import core.annotations.Conditional;
+import core.annotations.ConditionalOnClass;
+import core.annotations.ConditionalOnProperty;
+import core.annotations.Configuration;
+import core.annotations.Profile;
+import core.condition.Condition;
+import core.condition.ConditionContext;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * Beans guarded by every kind of registration condition, on classes and on {@code @Bean} methods.
+ */
+public final class ConditionalBeans {
+
+    public static final String CACHE_PROPERTY = "conditions.test.cache";
+    public static final String METRICS_PROPERTY = "conditions.test.metrics";
+
+    public static volatile boolean customConditionMatches;
+
+    private ConditionalBeans() {
+    }
+
+    @Component
+    @Profile("dev")
+    public static class DevOnly {
+    }
+
+    @Component
+    @Profile("!dev")
+    public static class NotDev {
+    }
+
+    @Component
+    @ConditionalOnProperty(name = CACHE_PROPERTY, havingValue = "redis")
+    public static class RedisCache {
+    }
+
+    @Component
+    @ConditionalOnProperty(name = METRICS_PROPERTY, matchIfMissing = true)
+    public static class Metrics {
+    }
+
+    @Component
+    @Conditional(FlagCondition.class)
+    public static class Flagged {
+    }
+
+    public static class FlagCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedElement element) {
+            return customConditionMatches;
+        }
+    }
+
+    @Configuration
+    public static class Factories {
+        @Bean
+        @ConditionalOnClass("java.lang.String")
+        public Integer present() {
+            return 42;
+        }
+
+        @Bean
+        @ConditionalOnClass("no.such.Library")
+        public Long absent() {
+            return 42L;
+        }
+    }
+}
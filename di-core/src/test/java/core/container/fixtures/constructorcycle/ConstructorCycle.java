@@ -0,0 +1,24 @@
+package core.container.fixtures.constructorcycle;
+
+import core.annotations.Component;
+
+/**
+ * Two beans that take each other as constructor arguments.
+ */
+public final class ConstructorCycle {
+
+    private ConstructorCycle() {
+    }
+
+    @Component
+    public static class Chicken {
+        public Chicken(Egg egg) {
+        }
+    }
+
+    @Component
+    public static class Egg {
+        public Egg(Chicken chicken) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package core.container.fixtures.constructors;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+
+/**
+ * Beans whose constructor the container has to choose.
+ */
+public final class ConstructorBeans {
+
+    private ConstructorBeans() {
+    }
+
+    @Component
+    public static class Engine {
+    }
+
+    @Component
+    public static class Wheels {
+    }
+
+    /** Its only constructor is used without {@code @Inject}, even though it is private. */
+    @Component
+    public static class Car {
+        public final Engine engine;
+
+        private Car(Engine engine) {
+            this.engine = engine;
+        }
+    }
+
+    /** The {@code @Inject} constructor wins over the others. */
+    @Component
+    public static class Truck {
+        public final String chosen;
+        public final Engine engine;
+        public final Wheels wheels;
+
+        public Truck() {
+            this("default", null, null);
+        }
+
+        public Truck(Engine engine) {
+            this("engine", engine, null);
+        }
+
+        @Inject
+        public Truck(Engine engine, Wheels wheels) {
+            this("inject", engine, wheels);
+        }
+
+        private Truck(String chosen, Engine engine, Wheels wheels) {
+            this.chosen = chosen;
+            this.engine = engine;
+            this.wheels = wheels;
+        }
+    }
+
+    /** Without {@code @Inject} among several constructors, the no-argument one is used. */
+    @Component
+    public static class Bike {
+        public final String chosen;
+
+        public Bike() {
+            chosen = "default";
+        }
+
+        public Bike(Wheels wheels) {
+            chosen = "wheels";
+        }
+    }
+}
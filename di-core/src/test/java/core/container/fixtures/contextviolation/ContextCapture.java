@@ -0,0 +1,30 @@
+package core.container.fixtures.contextviolation;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+
+/**
+ * A singleton taking a CONTEXT-scoped bean as a constructor argument.
+ */
+public final class ContextCapture {
+
+    private ContextCapture() {
+    }
+
+    @Component
+    @Scope(ScopeType.CONTEXT)
+    public static class PerRequest {
+    }
+
+    @Component
+    public static class Handler {
+        final PerRequest request;
+
+        @Inject
+        public Handler(PerRequest request) {
+            this.request = request;
+        }
+    }
+}
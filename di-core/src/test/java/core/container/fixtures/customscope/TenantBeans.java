@@ -0,0 +1,36 @@
+package core.container.fixtures.customscope;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.PreDestroy;
+import core.annotations.Scope;
+import core.injection.Provider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bean in the custom "tenant" scope, and a singleton that reaches it through a provider.
+ */
+public final class TenantBeans {
+
+    public static final String SCOPE = "tenant";
+    public static final AtomicInteger DESTROYED = new AtomicInteger();
+
+    private TenantBeans() {
+    }
+
+    @Component
+    @Scope(name = SCOPE)
+    public static class Cart {
+        @PreDestroy
+        void discard() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+
+    @Component
+    public static class Shop {
+        @Inject
+        public Provider<Cart> cart;
+    }
+}
@@ -0,0 +1,31 @@
+package core.container.fixtures.cycle;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+
+/**
+ * Three beans that depend on each other in a circle through their fields.
+ */
+public final class CycleBeans {
+
+    private CycleBeans() {
+    }
+
+    @Component
+    public static class First {
+        @Inject
+        Second second;
+    }
+
+    @Component
+    public static class Second {
+        @Inject
+        Third third;
+    }
+
+    @Component
+    public static class Third {
+        @Inject
+        First first;
+    }
+}
@@ -0,0 +1,20 @@
+package core.container.fixtures.duplicatenames;
+
+import core.annotations.Component;
+import core.annotations.Qualifier;
+
+public final class DuplicateNames {
+
+    private DuplicateNames() {
+    }
+
+    @Component
+    @Qualifier("store")
+    public static class FileStore {
+    }
+
+    @Component
+    @Qualifier("store")
+    public static class MemoryStore {
+    }
+}
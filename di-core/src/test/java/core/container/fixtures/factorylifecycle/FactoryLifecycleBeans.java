@@ -0,0 +1,61 @@
+package core.container.fixtures.factorylifecycle;
+
+import core.annotations.Bean;
+import core.annotations.Component;
+import core.annotations.Configuration;
+import core.annotations.Inject;
+import core.annotations.PostConstruct;
+import core.annotations.PreDestroy;
+
+/**
+ * A {@code @Bean} method declared to return an interface, returning an implementation with its
+ * own injected field and lifecycle callbacks.
+ */
+public final class FactoryLifecycleBeans {
+
+    public static volatile boolean destroyed;
+
+    private FactoryLifecycleBeans() {
+    }
+
+    public interface Greeter {
+        String greet();
+    }
+
+    @Component
+    public static class Punctuation {
+        public String mark() {
+            return "!";
+        }
+    }
+
+    public static class PoliteGreeter implements Greeter {
+        @Inject
+        Punctuation punctuation;
+
+        private String greeting;
+
+        @PostConstruct
+        void init() {
+            greeting = "Hello" + punctuation.mark();
+        }
+
+        @PreDestroy
+        void close() {
+            destroyed = true;
+        }
+
+        @Override
+        public String greet() {
+            return greeting;
+        }
+    }
+
+    @Configuration
+    public static class Greeters {
+        @Bean
+        public Greeter greeter() {
+            return new PoliteGreeter();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package core.container.fixtures.graphorder;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+
+/**
+ * A diamond: {@code Top} depends on {@code Left} and {@code Right}, which both depend on
+ * {@code Bottom}. {@code Loose} depends on nothing.
+ */
+public final class DiamondBeans {
+
+    private DiamondBeans() {
+    }
+
+    @Component
+    public static class Top {
+        @Inject
+        Left left;
+
+        @Inject
+        Right right;
+    }
+
+    @Component
+    public static class Left {
+        @Inject
+        Bottom bottom;
+    }
+
+    @Component
+    public static class Right {
+        @Inject
+        Bottom bottom;
+    }
+
+    @Component
+    public static class Bottom {
+    }
+
+    @Component
+    public static class Loose {
+    }
+}
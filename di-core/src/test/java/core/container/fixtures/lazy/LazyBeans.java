@@ -0,0 +1,75 @@
+package core.container.fixtures.lazy;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lazy singleton behind a package-private interface, injected through a {@code @Lazy} field.
+ */
+public final class LazyBeans {
+
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    private LazyBeans() {
+    }
+
+    interface Greeter {
+        String greet(String name);
+
+        void fail();
+
+        int calls();
+    }
+
+    @Component
+    @Lazy
+    static class ExpensiveGreeter implements Greeter {
+        private int calls;
+
+        ExpensiveGreeter() {
+            CONSTRUCTIONS.incrementAndGet();
+        }
+
+        @Override
+        public String greet(String name) {
+            calls++;
+            return "Hello, " + name;
+        }
+
+        @Override
+        public void fail() {
+            throw new IllegalStateException("greeter failed");
+        }
+
+        @Override
+        public int calls() {
+            return calls;
+        }
+    }
+
+    @Component
+    public static class Client {
+        @Inject
+        @Lazy
+        Greeter greeter;
+
+        public String greet(String name) {
+            return greeter.greet(name);
+        }
+
+        public void fail() {
+            greeter.fail();
+        }
+
+        public int calls() {
+            return greeter.calls();
+        }
+
+        public Object target() {
+            return greeter;
+        }
+    }
+}
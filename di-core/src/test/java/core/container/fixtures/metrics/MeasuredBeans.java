@@ -0,0 +1,34 @@
+package core.container.fixtures.metrics;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.PostConstruct;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+
+/**
+ * A singleton with a dependency, and a prototype with a {@code @PostConstruct} callback.
+ */
+public final class MeasuredBeans {
+
+    private MeasuredBeans() {
+    }
+
+    @Component
+    public static class Engine {
+    }
+
+    @Component
+    public static class Car {
+        @Inject
+        public Engine engine;
+    }
+
+    @Component
+    @Scope(ScopeType.PROTOTYPE)
+    public static class Trip {
+        @PostConstruct
+        void start() {
+        }
+    }
+}
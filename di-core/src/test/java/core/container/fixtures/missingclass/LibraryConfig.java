@@ -0,0 +1,15 @@
+package core.container.fixtures.missingclass;
+
+import core.annotations.Bean;
+import core.annotations.ConditionalOnClass;
+import core.annotations.Configuration;
+
+@Configuration
+@ConditionalOnClass("core.container.fixtures.missingclass.MissingLibrary")
+public class LibraryConfig {
+
+    @Bean
+    public MissingLibrary library() {
+        return new MissingLibrary();
+    }
+}
@@ -0,0 +1,9 @@
+package core.container.fixtures.missingclass;
+
+import core.annotations.Component;
+import core.annotations.Qualifier;
+
+@Component
+@Qualifier("survivor")
+public class Survivor {
+}
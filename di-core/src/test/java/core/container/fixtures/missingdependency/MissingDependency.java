@@ -0,0 +1,22 @@
+package core.container.fixtures.missingdependency;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+
+/**
+ * A bean injecting an interface that no bean implements.
+ */
+public final class MissingDependency {
+
+    private MissingDependency() {
+    }
+
+    public interface Mailer {
+    }
+
+    @Component
+    public static class Notifier {
+        @Inject
+        Mailer mailer;
+    }
+}
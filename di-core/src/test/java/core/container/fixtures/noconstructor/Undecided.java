@@ -0,0 +1,16 @@
+package core.container.fixtures.noconstructor;
+
+import core.annotations.Component;
+
+/**
+ * Several constructors, none of them {@code @Inject} or without arguments.
+ */
+@Component
+public class Undecided {
+
+    public Undecided(String name) {
+    }
+
+    public Undecided(Integer id) {
+    }
+}
@@ -0,0 +1,45 @@
+package core.container.fixtures.parentctx;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The beans of a parent context, shared by its children.
+ */
+public final class ParentBeans {
+
+    public static final AtomicInteger CLOCKS = new AtomicInteger();
+
+    private ParentBeans() {
+    }
+
+    public interface Greeting {
+        String greet();
+    }
+
+    @Component
+    public static class DefaultGreeting implements Greeting {
+        @Override
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    @Component
+    public static class Clock {
+        public Clock() {
+            CLOCKS.incrementAndGet();
+        }
+    }
+
+    @Component
+    public static class Auditor {
+        @Inject
+        public Greeting greeting;
+
+        @Inject
+        public Clock clock;
+    }
+}
@@ -0,0 +1,60 @@
+package core.container.fixtures.providers;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+import core.injection.ObjectFactory;
+import core.injection.Provider;
+
+/**
+ * Beans that obtain prototypes and singletons through providers, and two beans whose mutual
+ * dependency is broken by a provider.
+ */
+public final class ProviderBeans {
+
+    private ProviderBeans() {
+    }
+
+    @Component
+    @Scope(ScopeType.PROTOTYPE)
+    public static class Ticket {
+    }
+
+    @Component
+    public static class Registry {
+    }
+
+    @Component
+    public static class Office {
+        @Inject
+        public Provider<Ticket> tickets;
+
+        @Inject
+        public ObjectFactory<Ticket> ticketFactory;
+
+        @Inject
+        public Provider<Registry> registry;
+    }
+
+    /** Takes the provider as a constructor argument, so it cannot be created after its partner. */
+    @Component
+    public static class Owner {
+        public final Provider<Pet> pet;
+
+        @Inject
+        public Owner(Provider<Pet> pet) {
+            this.pet = pet;
+        }
+    }
+
+    @Component
+    public static class Pet {
+        public final Owner owner;
+
+        @Inject
+        public Pet(Owner owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package core.container.fixtures.qualifiedcollection;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Qualifier;
+
+import java.util.List;
+
+@Component
+public class QualifiedList {
+
+    @Inject
+    @Qualifier("first")
+    List<Runnable> tasks;
+}
@@ -0,0 +1,44 @@
+package core.container.fixtures.qualifiers;
+
+import core.annotations.Bean;
+import core.annotations.Component;
+import core.annotations.Configuration;
+import core.annotations.Inject;
+import core.annotations.Qualifier;
+
+/**
+ * Two beans of the same type told apart by name, and a consumer of each.
+ */
+public final class QualifiedBeans {
+
+    private QualifiedBeans() {
+    }
+
+    public record Endpoint(String url) {
+    }
+
+    @Configuration
+    public static class Endpoints {
+        @Bean
+        public Endpoint primaryEndpoint() {
+            return new Endpoint("primary");
+        }
+
+        @Bean
+        @Qualifier("backup")
+        public Endpoint backupEndpoint() {
+            return new Endpoint("backup");
+        }
+    }
+
+    @Component
+    public static class Client {
+        @Inject
+        @Qualifier("primaryEndpoint")
+        public Endpoint primary;
+
+        @Inject
+        @Qualifier("backup")
+        public Endpoint backup;
+    }
+}
@@ -0,0 +1,78 @@
+package core.container.fixtures.registry;
+
+import core.annotations.Bean;
+import core.annotations.Component;
+import core.annotations.Configuration;
+import core.annotations.Primary;
+
+/**
+ * Interfaces with one, several and several primary implementations, registered directly with a
+ * {@code BeanRegistry} rather than through a container.
+ */
+public final class RegistryBeans {
+
+    private RegistryBeans() {
+    }
+
+    public interface Store {
+    }
+
+    public abstract static class AbstractStore implements Store {
+    }
+
+    @Component
+    public static class MemoryStore extends AbstractStore {
+    }
+
+    public interface Cache {
+    }
+
+    @Component
+    public static class LocalCache implements Cache {
+    }
+
+    @Component
+    public static class SharedCache implements Cache {
+    }
+
+    public interface Clock {
+    }
+
+    @Component
+    public static class SystemClock implements Clock {
+    }
+
+    @Component
+    @Primary
+    public static class FixedClock implements Clock {
+    }
+
+    public interface Queue {
+    }
+
+    @Component
+    @Primary
+    public static class FastQueue implements Queue {
+    }
+
+    @Component
+    @Primary
+    public static class SafeQueue implements Queue {
+    }
+
+    public record Endpoint(String url) {
+    }
+
+    @Configuration
+    public static class Endpoints {
+        @Bean
+        public Endpoint primaryEndpoint() {
+            return new Endpoint("primary");
+        }
+
+        @Bean
+        public Endpoint backupEndpoint() {
+            return new Endpoint("backup");
+        }
+    }
+}
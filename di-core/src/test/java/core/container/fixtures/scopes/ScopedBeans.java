@@ -0,0 +1,45 @@
+package core.container.fixtures.scopes;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Lazy;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+import core.injection.Provider;
+
+/**
+ * A THREAD-scoped and a CONTEXT-scoped bean, and a singleton that reaches both indirectly.
+ */
+public final class ScopedBeans {
+
+    private ScopedBeans() {
+    }
+
+    public interface Identity {
+        Object self();
+    }
+
+    @Component
+    @Scope(ScopeType.THREAD)
+    public static class PerThread implements Identity {
+        @Override
+        public Object self() {
+            return this;
+        }
+    }
+
+    @Component
+    @Scope(ScopeType.CONTEXT)
+    public static class PerContext {
+    }
+
+    @Component
+    public static class Holder {
+        @Inject
+        @Lazy
+        public Identity perThread;
+
+        @Inject
+        public Provider<PerContext> perContext;
+    }
+}
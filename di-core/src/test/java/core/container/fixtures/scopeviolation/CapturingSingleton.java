@@ -0,0 +1,18 @@
+package core.container.fixtures.scopeviolation;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+
+@Component
+public class CapturingSingleton {
+
+    @Inject
+    PerThread perThread;
+
+    @Component
+    @Scope(ScopeType.THREAD)
+    public static class PerThread {
+    }
+}
@@ -0,0 +1,91 @@
+package core.container.fixtures.shutdown;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.PreDestroy;
+import core.annotations.Scope;
+import core.enums.ScopeType;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A database, a repository on top of it, two independent services using the repository, and a
+ * pooled bean.
+ */
+public final class ShutdownBeans {
+
+    public static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+    /** Only passes when both services are being destroyed at the same time. */
+    public static volatile CyclicBarrier servicesTogether = new CyclicBarrier(2);
+
+    private ShutdownBeans() {
+    }
+
+    public static void reset() {
+        DESTROYED.clear();
+        servicesTogether = new CyclicBarrier(2);
+    }
+
+    private static void awaitOtherService() {
+        try {
+            servicesTogether.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Independent services were not destroyed in parallel", e);
+        }
+    }
+
+    @Component
+    public static class Database {
+        @PreDestroy
+        void close() {
+            DESTROYED.add("database");
+        }
+    }
+
+    @Component
+    public static class Repository {
+        @Inject
+        Database database;
+
+        @PreDestroy
+        void close() {
+            DESTROYED.add("repository");
+        }
+    }
+
+    @Component
+    public static class OrderService {
+        @Inject
+        Repository repository;
+
+        @PreDestroy
+        void close() {
+            awaitOtherService();
+            DESTROYED.add("orders");
+        }
+    }
+
+    @Component
+    public static class BillingService {
+        @Inject
+        Repository repository;
+
+        @PreDestroy
+        void close() {
+            awaitOtherService();
+            DESTROYED.add("billing");
+        }
+    }
+
+    @Component
+    @Scope(ScopeType.POOLED)
+    public static class Buffer {
+        @PreDestroy
+        void release() {
+            DESTROYED.add("buffer");
+        }
+    }
+}
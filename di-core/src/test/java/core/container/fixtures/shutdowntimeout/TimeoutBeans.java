@@ -0,0 +1,38 @@
+package core.container.fixtures.shutdowntimeout;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.PreDestroy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A bean whose destruction hangs, and the bean it depends on.
+ */
+public final class TimeoutBeans {
+
+    public static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+
+    private TimeoutBeans() {
+    }
+
+    @Component
+    public static class Base {
+        @PreDestroy
+        void close() {
+            DESTROYED.add("base");
+        }
+    }
+
+    @Component
+    public static class Hanging {
+        @Inject
+        Base base;
+
+        @PreDestroy
+        void close() throws InterruptedException {
+            Thread.sleep(60_000);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package core.container.fixtures.singleton;
+
+import core.annotations.Component;
+import core.annotations.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Lazy
+public class SlowSingleton {
+
+    public static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+    public SlowSingleton() throws InterruptedException {
+        CONSTRUCTIONS.incrementAndGet();
+        Thread.sleep(50);
+    }
+}
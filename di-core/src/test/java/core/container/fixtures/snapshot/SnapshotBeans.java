@@ -0,0 +1,44 @@
+package core.container.fixtures.snapshot;
+
+import core.annotations.Bean;
+import core.annotations.Component;
+import core.annotations.ConditionalOnProperty;
+import core.annotations.Configuration;
+import core.annotations.Lazy;
+import core.annotations.Primary;
+import core.annotations.Qualifier;
+import core.annotations.Scope;
+import core.annotations.Value;
+import core.enums.ScopeType;
+
+/**
+ * Definitions of every kind a snapshot records, and a bean enabled by a property.
+ */
+public final class SnapshotBeans {
+
+    public static final String FEATURE_PROPERTY = "snapshot.test.feature";
+
+    private SnapshotBeans() {
+    }
+
+    @Component
+    @Scope(ScopeType.PROTOTYPE)
+    @Lazy
+    @Primary
+    @Qualifier("plain")
+    public static class Plain {
+    }
+
+    @Component
+    @ConditionalOnProperty(name = FEATURE_PROPERTY, havingValue = "on")
+    public static class Feature {
+    }
+
+    @Configuration
+    public static class Factories {
+        @Bean
+        public StringBuilder builder(Plain plain, @Value("16") int capacity) {
+            return new StringBuilder(capacity);
+        }
+    }
+}
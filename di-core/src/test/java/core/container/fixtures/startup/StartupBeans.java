@@ -0,0 +1,79 @@
+package core.container.fixtures.startup;
+
+import core.annotations.Component;
+import core.annotations.Inject;
+import core.annotations.Lazy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two independent leaves, a bean depending on both, a bean on top of that and a lazy bean.
+ */
+public final class StartupBeans {
+
+    public static final List<String> CREATED = new CopyOnWriteArrayList<>();
+    /** Only passes when both leaves are being constructed at the same time. */
+    public static volatile CyclicBarrier leavesTogether = new CyclicBarrier(2);
+
+    private StartupBeans() {
+    }
+
+    public static void reset() {
+        CREATED.clear();
+        leavesTogether = new CyclicBarrier(2);
+    }
+
+    private static void created(String name, boolean awaitOtherLeaf) {
+        if (awaitOtherLeaf) {
+            try {
+                leavesTogether.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException("Independent singletons were not created in parallel", e);
+            }
+        }
+        CREATED.add(name);
+    }
+
+    @Component
+    public static class LeftLeaf {
+        public LeftLeaf() {
+            created("left", true);
+        }
+    }
+
+    @Component
+    public static class RightLeaf {
+        public RightLeaf() {
+            created("right", true);
+        }
+    }
+
+    @Component
+    public static class Middle {
+        @Inject
+        public Middle(LeftLeaf left, RightLeaf right) {
+            created("middle", false);
+        }
+    }
+
+    @Component
+    public static class Top {
+        @Inject
+        Middle middle;
+
+        public Top() {
+            created("top", false);
+        }
+    }
+
+    @Component
+    @Lazy
+    public static class OnDemand {
+        public OnDemand() {
+            created("on-demand", false);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package core.container.fixtures.values;
+
+import core.annotations.Bean;
+import core.annotations.Component;
+import core.annotations.Configuration;
+import core.annotations.Inject;
+import core.annotations.Value;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration values injected into fields, a constructor and a {@code @Bean} method.
+ */
+public final class ValueBeans {
+
+    public static final String PORT_PROPERTY = "values.test.port";
+    public static final String TIMEOUT_PROPERTY = "values.test.timeout";
+
+    private ValueBeans() {
+    }
+
+    @Component
+    public static class Server {
+        @Value("${" + PORT_PROPERTY + ":8080}")
+        public int port;
+
+        @Value("${" + TIMEOUT_PROPERTY + ":30s}")
+        public Duration timeout;
+
+        @Value("${values.test.unit:minutes}")
+        public TimeUnit unit;
+
+        public final boolean secure;
+
+        @Inject
+        public Server(@Value("${values.test.secure:false}") boolean secure) {
+            this.secure = secure;
+        }
+    }
+
+    @Configuration
+    public static class Limits {
+        @Bean
+        public Long maxBytes(@Value("${values.test.max:1048576}") long max) {
+            return max;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package core.jfr;
+
+import core.container.DIContainer;
+import core.container.fixtures.metrics.MeasuredBeans;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContainerEventsTest {
+
+    private static final String PACKAGE = "core.container.fixtures.metrics";
+    private static final List<String> EVENTS = List.of("core.di.Scan", "core.di.BeanRegistration",
+            "core.di.BeanInstantiation", "core.di.FieldInjection", "core.di.LifecycleCallback",
+            "core.di.BeanResolution", "core.di.SingletonCache");
+
+    @TempDir
+    static Path directory;
+
+    private static List<RecordedEvent> events;
+
+    @BeforeAll
+    static void record() throws Exception {
+        Path dump = directory.resolve("container.jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            try (DIContainer container = new DIContainer(PACKAGE)) {
+                container.getBean(MeasuredBeans.Car.class);
+                container.getBean(MeasuredBeans.Trip.class);
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+        events = RecordingFile.readAllEvents(dump);
+    }
+
+    @Test
+    void scanReportsThePackageAndTheClassesFound() {
+        RecordedEvent scan = events.stream()
+                .filter(event -> named(event, "core.di.Scan") && PACKAGE.equals(event.getString("basePackage")))
+                .findFirst().orElseThrow();
+
+        assertEquals(3, scan.getInt("classCount"));
+        assertTrue(List.of("index", "classpath").contains(scan.getString("source")), scan::toString);
+    }
+
+    @Test
+    void everyBeanIsRegisteredWithItsScope() {
+        assertEquals("singleton", only("core.di.BeanRegistration", MeasuredBeans.Car.class).getString("scope"));
+        assertEquals("prototype", only("core.di.BeanRegistration", MeasuredBeans.Trip.class).getString("scope"));
+        only("core.di.BeanRegistration", MeasuredBeans.Engine.class);
+    }
+
+    @Test
+    void creationEmitsInstantiationInjectionAndCallbackEvents() {
+        only("core.di.BeanInstantiation", MeasuredBeans.Car.class);
+        only("core.di.BeanInstantiation", MeasuredBeans.Engine.class);
+        only("core.di.FieldInjection", MeasuredBeans.Car.class);
+
+        RecordedEvent callback = only("core.di.LifecycleCallback", MeasuredBeans.Trip.class);
+        assertEquals(LifecycleCallbackEvent.POST_CONSTRUCT, callback.getString("phase"));
+    }
+
+    @Test
+    void lookupsEmitResolutionAndCacheEventsWhenEnabled() {
+        RecordedEvent resolution = forBean("core.di.BeanResolution", MeasuredBeans.Car.class).stream()
+                .findFirst().orElseThrow();
+        assertEquals(MeasuredBeans.Car.class.getName(), resolution.<RecordedClass>getValue("requestedType").getName());
+
+        List<Boolean> hits = forBean("core.di.SingletonCache", MeasuredBeans.Car.class).stream()
+                .map(event -> event.getBoolean("hit"))
+                .collect(Collectors.toList());
+        assertTrue(hits.contains(false), hits::toString);
+        assertTrue(hits.contains(true), hits::toString);
+    }
+
+    private static RecordedEvent only(String name, Class<?> beanClass) {
+        List<RecordedEvent> matching = forBean(name, beanClass);
+        assertEquals(1, matching.size(), () -> name + " events of " + beanClass + ": " + matching);
+        return matching.get(0);
+    }
+
+    private static List<RecordedEvent> forBean(String name, Class<?> beanClass) {
+        return events.stream()
+                .filter(event -> named(event, name))
+                .filter(event -> beanClass.getName().equals(event.<RecordedClass>getValue("beanClass").getName()))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean named(RecordedEvent event, String name) {
+        return event.getEventType().getName().equals(name);
+    }
+}
@@ -0,0 +1,109 @@
+package core.property;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PropertySourcesTest {
+
+    private static final String KEY = "property.sources.test.key";
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(KEY);
+        System.clearProperty(PropertySources.CONFIG_PROPERTY);
+    }
+
+    @Test
+    void firstLayerDefiningAKeyWins() {
+        PropertySources sources = new PropertySources(List.of(
+                new MapPropertySource("high", Map.of("a", "high")),
+                new MapPropertySource("low", Map.of("a", "low", "b", "low"))));
+
+        assertEquals(Optional.of("high"), sources.getProperty("a"));
+        assertEquals(Optional.of("low"), sources.getProperty("b"));
+        assertEquals(Optional.empty(), sources.getProperty("c"));
+        assertEquals(Set.of("a", "b"), sources.getPropertyNames());
+    }
+
+    @Test
+    void systemPropertiesOverrideTheConfigFileWhichOverridesTheClasspathResource() throws IOException {
+        try (URLClassLoader classpath = classpathWith(KEY + "=classpath\nonly.classpath=yes\n")) {
+            assertEquals(Optional.of("classpath"), PropertySources.standard(classpath).getProperty(KEY));
+
+            Path config = Files.writeString(directory.resolve("config.properties"), KEY + "=file\n");
+            System.setProperty(PropertySources.CONFIG_PROPERTY, config.toString());
+            PropertySources withFile = PropertySources.standard(classpath);
+            assertEquals(Optional.of("file"), withFile.getProperty(KEY));
+            assertEquals(Optional.of("yes"), withFile.getProperty("only.classpath"));
+
+            System.setProperty(KEY, "system");
+            assertEquals(Optional.of("system"), PropertySources.standard(classpath).getProperty(KEY));
+        }
+    }
+
+    @Test
+    void environmentSitsBetweenSystemPropertiesAndTheConfigFile() throws IOException {
+        Map.Entry<String, String> variable = System.getenv().entrySet().stream()
+                .filter(e -> System.getProperty(e.getKey()) == null && !e.getKey().isEmpty())
+                .findFirst().orElse(null);
+        assumeTrue(variable != null, "needs an environment variable");
+        String name = variable.getKey();
+
+        Path config = Files.writeString(directory.resolve("config.properties"), name + "=file\n");
+        System.setProperty(PropertySources.CONFIG_PROPERTY, config.toString());
+        try (URLClassLoader classpath = classpathWith("")) {
+            assertEquals(Optional.of(variable.getValue()), PropertySources.standard(classpath).getProperty(name));
+
+            System.setProperty(name, "system");
+            try {
+                assertEquals(Optional.of("system"), PropertySources.standard(classpath).getProperty(name));
+            } finally {
+                System.clearProperty(name);
+            }
+        }
+    }
+
+    @Test
+    void environmentVariablesAnswerTheirRelaxedName() {
+        MapPropertySource environment = MapPropertySource.environment();
+        System.getenv().forEach((name, value) -> {
+            if (name.equals(name.toUpperCase()) && name.contains("_")) {
+                assertTrue(environment.getProperty(name.toLowerCase().replace('_', '.')).isPresent(), name);
+            }
+        });
+    }
+
+    @Test
+    void systemPropertiesAreCopiedWhenTheSourcesAreCreated() throws IOException {
+        try (URLClassLoader classpath = classpathWith("")) {
+            PropertySources sources = PropertySources.standard(classpath);
+            System.setProperty(KEY, "later");
+
+            assertEquals(Optional.empty(), sources.getProperty(KEY));
+        }
+    }
+
+    private URLClassLoader classpathWith(String applicationProperties) throws IOException {
+        Path root = Files.createDirectories(directory.resolve("classpath"));
+        Files.writeString(root.resolve(PropertySources.DEFAULT_RESOURCE), applicationProperties);
+        return new URLClassLoader(new URL[]{root.toUri().toURL()}, null);
+    }
+}
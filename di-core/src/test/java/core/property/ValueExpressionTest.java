@@ -0,0 +1,87 @@
+package core.property;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueExpressionTest {
+
+    private static final PropertySource PROPERTIES = new MapPropertySource("test", Map.of(
+            "port", " 8080 ",
+            "size", "9000000000",
+            "enabled", "TRUE",
+            "unit", "seconds",
+            "host", "example.org",
+            "names", "a, b ,c"));
+
+    @Test
+    void convertsToPrimitivesAndTheirWrappers() {
+        assertEquals(8080, evaluate("${port}", int.class));
+        assertEquals(8080, evaluate("${port}", Integer.class));
+        assertEquals(9_000_000_000L, evaluate("${size}", long.class));
+        assertEquals(true, evaluate("${enabled}", boolean.class));
+        assertEquals(false, evaluate("false", Boolean.class));
+        assertEquals(0.5, evaluate("0.5", double.class));
+        assertEquals('x', evaluate("x", char.class));
+    }
+
+    @Test
+    void convertsDurationsWithAndWithoutUnits() {
+        assertEquals(Duration.ofMillis(250), evaluate("250", Duration.class));
+        assertEquals(Duration.ofMillis(250), evaluate("250ms", Duration.class));
+        assertEquals(Duration.ofSeconds(30), evaluate("30s", Duration.class));
+        assertEquals(Duration.ofMinutes(5), evaluate("5m", Duration.class));
+        assertEquals(Duration.ofHours(2), evaluate("2h", Duration.class));
+        assertEquals(Duration.ofDays(1), evaluate("1d", Duration.class));
+        assertEquals(Duration.ofSeconds(90), evaluate("PT1M30S", Duration.class));
+    }
+
+    @Test
+    void convertsEnumsIgnoringCaseAndStringArrays() {
+        assertEquals(ChronoUnit.SECONDS, evaluate("${unit}", ChronoUnit.class));
+        assertArrayEquals(new String[]{"a", "b", "c"}, (String[]) evaluate("${names}", String[].class));
+        assertArrayEquals(new String[0], (String[]) evaluate("", String[].class));
+    }
+
+    @Test
+    void replacesPlaceholdersWithinTextAndFallsBackToDefaults() {
+        assertEquals("https://example.org:8443/", evaluate("https://${host}:${tls.port:8443}/", String.class));
+        assertEquals(10, evaluate("${missing:10}", int.class));
+        assertEquals("", evaluate("${missing:}", String.class));
+        assertEquals(8080, evaluate("${port:1}", int.class));
+    }
+
+    @Test
+    void missingPropertyWithoutDefaultFailsNamingTheInjectionPoint() {
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> evaluate("${missing}", String.class));
+
+        assertEquals("Missing property 'missing' for field Example.value", failure.getMessage());
+    }
+
+    @Test
+    void malformedValuesFailNamingTheValueAndTheTargetType() {
+        assertMalformed("${host}", int.class, "Cannot convert value 'example.org' of field Example.value to int");
+        assertMalformed("yes", boolean.class, "expected true or false");
+        assertMalformed("soon", Duration.class, "java.time.Duration");
+        assertMalformed("fortnights", ChronoUnit.class, "no such constant");
+        assertMalformed("xy", char.class, "expected a single character");
+        assertMalformed("1", Object[].class, "unsupported type");
+        assertThrows(RuntimeException.class, () -> evaluate("${port", int.class));
+    }
+
+    private static void assertMalformed(String expression, Class<?> type, String expected) {
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> evaluate(expression, type));
+        assertTrue(failure.getMessage().contains(expected), failure::getMessage);
+    }
+
+    private static Object evaluate(String expression, Class<?> type) {
+        return ValueExpression.evaluate(expression, PROPERTIES, type, "field Example.value");
+    }
+}
@@ -0,0 +1,162 @@
+package core.scanner;
+
+import core.property.MapPropertySource;
+import core.testing.JavaSources;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanIndexTest {
+
+    private static final String SERVICE = """
+            package indexed;
+            @core.annotations.Component
+            public class Service {
+                @core.annotations.Component
+                public static class Nested {
+                }
+            }
+            """;
+
+    private static final String CONFIG = """
+            package indexed;
+            @core.annotations.Configuration
+            public class Config {
+                @core.annotations.Bean
+                public Object endpoint(int port, String[] hosts, java.util.List<String> tags) {
+                    return null;
+                }
+            }
+            """;
+
+    private static final String EXTRA = """
+            package indexed;
+            @core.annotations.Component
+            public class Extra {
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void processorListsComponentsConfigurationsAndBeanMethods() throws Exception {
+        Path classes = JavaSources.compile(directory, Map.of("indexed.Service", SERVICE, "indexed.Config", CONFIG),
+                List.of());
+
+        assertEquals(List.of(
+                "bean indexed.Config endpoint int [Ljava.lang.String; java.util.List",
+                "component indexed.Service",
+                "component indexed.Service$Nested",
+                "configuration indexed.Config"), entries(classes));
+
+        try (URLClassLoader loader = loader(classes)) {
+            BeanIndex index = load(loader);
+            assertEquals(Set.of("indexed.Service", "indexed.Service$Nested", "indexed.Config"),
+                    index.getClasses("indexed").stream().map(Class::getName).collect(Collectors.toSet()));
+
+            List<Method> methods = index.getBeanMethods(loader.loadClass("indexed.Config"));
+            assertEquals(1, methods.size());
+            assertEquals("endpoint", methods.get(0).getName());
+            assertEquals(List.of(int.class, String[].class, List.class), List.of(methods.get(0).getParameterTypes()));
+        }
+    }
+
+    @Test
+    void incrementalCompilationMergesWithThePreviousIndex() throws IOException {
+        Path classes = JavaSources.compile(directory, Map.of("indexed.Service", SERVICE, "indexed.Config", CONFIG),
+                List.of());
+
+        JavaSources.compile(directory, Map.of("indexed.Extra", EXTRA), List.of());
+        assertEquals(List.of(
+                "bean indexed.Config endpoint int [Ljava.lang.String; java.util.List",
+                "component indexed.Extra",
+                "component indexed.Service",
+                "component indexed.Service$Nested",
+                "configuration indexed.Config"), entries(classes));
+
+        JavaSources.compile(directory, Map.of("indexed.Service", "package indexed; public class Service {}"),
+                List.of());
+        assertEquals(List.of(
+                "bean indexed.Config endpoint int [Ljava.lang.String; java.util.List",
+                "component indexed.Extra",
+                "configuration indexed.Config"), entries(classes));
+
+        Files.delete(classes.resolve("indexed/Extra.class"));
+        JavaSources.compile(directory, Map.of("indexed.Plain", "package indexed; public class Plain {}"), List.of());
+        assertEquals(List.of(
+                "bean indexed.Config endpoint int [Ljava.lang.String; java.util.List",
+                "configuration indexed.Config"), entries(classes));
+    }
+
+    @Test
+    void packageSharedWithAnUnindexedJarWithoutDirectoryEntriesIsNotCovered() throws IOException {
+        Path classes = JavaSources.compile(directory.resolve("app"), Map.of("indexed.Service", SERVICE), List.of());
+        Path library = JavaSources.compile(directory.resolve("library"), Map.of("indexed.Extra", EXTRA),
+                List.of("-proc:none"));
+        Path jar = JavaSources.jar(library, directory.resolve("library.jar"), false);
+
+        try (URLClassLoader loader = loader(classes)) {
+            assertTrue(load(loader).covers("indexed"));
+        }
+        try (URLClassLoader loader = loader(classes, jar)) {
+            assertFalse(load(loader).covers("indexed"));
+        }
+    }
+
+    @Test
+    void jarWithoutDirectoryEntriesThatShipsAnIndexIsCovered() throws IOException {
+        Path classes = JavaSources.compile(directory.resolve("app"), Map.of("indexed.Service", SERVICE), List.of());
+        Path library = JavaSources.compile(directory.resolve("library"), Map.of("indexed.Extra", EXTRA), List.of());
+        Path jar = JavaSources.jar(library, directory.resolve("library.jar"), false);
+
+        try (URLClassLoader loader = loader(classes, jar)) {
+            BeanIndex index = load(loader);
+            assertTrue(index.covers("indexed"));
+            assertEquals(Set.of("indexed.Service", "indexed.Service$Nested", "indexed.Extra"),
+                    index.getClasses("indexed").stream().map(Class::getName).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void indexCanBeIgnoredThroughTheProperties() throws IOException {
+        Path classes = JavaSources.compile(directory, Map.of("indexed.Service", SERVICE), List.of());
+
+        try (URLClassLoader loader = loader(classes)) {
+            assertTrue(BeanIndex.load(loader, new MapPropertySource("test",
+                    Map.of(BeanIndex.IGNORE_PROPERTY, "true"))).isEmpty());
+        }
+    }
+
+    private static List<String> entries(Path classes) throws IOException {
+        return Files.readAllLines(classes.resolve(BeanIndex.LOCATION)).stream()
+                .filter(line -> !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    private static BeanIndex load(ClassLoader loader) {
+        return BeanIndex.load(loader, new MapPropertySource("test", Map.of())).orElseThrow();
+    }
+
+    private static URLClassLoader loader(Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, BeanIndexTest.class.getClassLoader());
+    }
+}
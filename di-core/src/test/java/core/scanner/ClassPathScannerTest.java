@@ -0,0 +1,190 @@
+package core.scanner;
+
+import core.testing.JavaSources;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassPathScannerTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "scanned.Service", """
+                    package scanned;
+                    @core.annotations.Component
+                    public class Service {
+                        @core.annotations.Component
+                        public static class Nested {
+                        }
+                    }
+                    """,
+            "scanned.Settings", """
+                    package scanned;
+                    @core.annotations.Scope(value = core.enums.ScopeType.CUSTOM, name = "tenant")
+                    @core.annotations.Conditional({Settings.Always.class})
+                    @core.annotations.Order(1)
+                    @core.annotations.Configuration
+                    public class Settings {
+                        public static class Always implements core.condition.Condition {
+                            public boolean matches(core.condition.ConditionContext context,
+                                                   java.lang.reflect.AnnotatedElement element) {
+                                return true;
+                            }
+                        }
+                    }
+                    """,
+            "scanned.internal.Repository", """
+                    package scanned.internal;
+                    @core.annotations.Component
+                    public class Repository {
+                    }
+                    """,
+            "scanned.Plain", """
+                    package scanned;
+                    public class Plain {
+                        @core.annotations.Inject
+                        Service service;
+                        @core.annotations.Bean
+                        public Object notABean() {
+                            return new Object();
+                        }
+                    }
+                    """,
+            "scanned.Stereotype", """
+                    package scanned;
+                    @core.annotations.Component
+                    @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                    public @interface Stereotype {
+                    }
+                    """,
+            "scanned.MetaAnnotated", """
+                    package scanned;
+                    @Stereotype
+                    public class MetaAnnotated {
+                    }
+                    """);
+
+    private static final Set<String> BEANS = Set.of("scanned.Service", "scanned.Service$Nested",
+            "scanned.Settings", "scanned.internal.Repository", "scanned.Stereotype");
+
+    @TempDir
+    static Path directory;
+
+    private static Path classes;
+    private static Path jar;
+
+    @BeforeAll
+    static void compile() throws IOException {
+        classes = JavaSources.compile(directory, SOURCES, List.of("-proc:none"));
+        jar = JavaSources.jar(classes, directory.resolve("scanned.jar"), true);
+    }
+
+    @Test
+    void findsAnnotatedClassesInADirectoryRoot() throws IOException {
+        try (URLClassLoader loader = loader(classes)) {
+            assertEquals(BEANS, names(new ClassPathScanner(loader, List.of(), List.of()).scan("scanned")));
+        }
+    }
+
+    @Test
+    void findsAnnotatedClassesInAJarRoot() throws IOException {
+        try (URLClassLoader loader = loader(jar)) {
+            assertEquals(BEANS, names(new ClassPathScanner(loader, List.of(), List.of()).scan("scanned")));
+        }
+    }
+
+    @Test
+    void findsAnnotatedClassesInAJarWithoutDirectoryEntries() throws IOException {
+        Path bare = JavaSources.jar(classes, directory.resolve("scanned-bare.jar"), false);
+        try (URLClassLoader loader = loader(bare)) {
+            assertEquals(BEANS, names(new ClassPathScanner(loader, List.of(), List.of()).scan("scanned")));
+            assertEquals(Set.of("scanned.internal.Repository"),
+                    names(new ClassPathScanner(loader, List.of(), List.of()).scan("scanned.internal")));
+        }
+    }
+
+    @Test
+    void scansOnlyTheGivenPackageAndItsSubpackages() throws IOException {
+        try (URLClassLoader loader = loader(jar)) {
+            assertEquals(Set.of("scanned.internal.Repository"),
+                    names(new ClassPathScanner(loader, List.of(), List.of()).scan("scanned.internal")));
+        }
+    }
+
+    @Test
+    void includeAndExcludePatternsFilterByClassName() throws IOException {
+        try (URLClassLoader loader = loader(classes)) {
+            assertEquals(Set.of("scanned.Service", "scanned.Settings", "scanned.Stereotype"),
+                    names(new ClassPathScanner(loader, List.of("scanned.*"), List.of("*.*$*")).scan("scanned")));
+            assertEquals(Set.of("scanned.Service", "scanned.Service$Nested", "scanned.Settings", "scanned.Stereotype"),
+                    names(new ClassPathScanner(loader, List.of(), List.of("**.internal.**")).scan("scanned")));
+            assertEquals(Set.of("scanned.internal.Repository"),
+                    names(new ClassPathScanner(loader, List.of("scanned.**", "other.**"), List.of("scanned.S*"))
+                            .scan("scanned")));
+        }
+    }
+
+    @Test
+    void returnsClassesInNameOrder() throws IOException {
+        try (URLClassLoader loader = loader(classes)) {
+            List<String> order = new ClassPathScanner(loader, List.of(), List.of()).scan("scanned").stream()
+                    .map(Class::getName).collect(Collectors.toList());
+            assertEquals(order.stream().sorted().collect(Collectors.toList()), order);
+        }
+    }
+
+    @Test
+    void skipsMalformedClassfiles() throws IOException {
+        Path root = directory.resolve("malformed");
+        Path pkg = Files.createDirectories(root.resolve("scanned"));
+        byte[] service = Files.readAllBytes(classes.resolve("scanned/Service.class"));
+        Files.write(pkg.resolve("Service.class"), service);
+        Files.write(pkg.resolve("Truncated.class"), Arrays.copyOf(service, 40));
+        Files.write(pkg.resolve("Garbage.class"), new byte[]{1, 2, 3});
+        try (OutputStream empty = Files.newOutputStream(pkg.resolve("Empty.class"))) {
+            empty.flush();
+        }
+
+        try (URLClassLoader loader = loader(root)) {
+            assertEquals(Set.of("scanned.Service"),
+                    names(new ClassPathScanner(loader, List.of(), List.of()).scan("scanned")));
+        }
+    }
+
+    @Test
+    void classfileParserLooksAtClassLevelAnnotationsOnly() throws IOException {
+        ClassFileAnnotations components = new ClassFileAnnotations(List.of("Lcore/annotations/Component;"));
+
+        assertTrue(components.isAnnotated(Files.readAllBytes(classes.resolve("scanned/Service.class"))));
+        assertTrue(components.isAnnotated(Files.readAllBytes(classes.resolve("scanned/Service$Nested.class"))));
+        assertFalse(components.isAnnotated(Files.readAllBytes(classes.resolve("scanned/Plain.class"))));
+        assertFalse(components.isAnnotated(Files.readAllBytes(classes.resolve("scanned/MetaAnnotated.class"))));
+        assertFalse(components.isAnnotated(Files.readAllBytes(classes.resolve("scanned/Settings.class"))));
+        assertTrue(new ClassFileAnnotations(List.of("Lcore/annotations/Configuration;"))
+                .isAnnotated(Files.readAllBytes(classes.resolve("scanned/Settings.class"))));
+        assertFalse(components.isAnnotated(new byte[0]));
+    }
+
+    private static URLClassLoader loader(Path root) throws IOException {
+        return new URLClassLoader(new URL[]{root.toUri().toURL()}, ClassPathScannerTest.class.getClassLoader());
+    }
+
+    private static Set<String> names(Set<Class<?>> classes) {
+        return classes.stream().map(Class::getName).collect(Collectors.toSet());
+    }
+}
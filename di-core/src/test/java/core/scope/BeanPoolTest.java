@@ -0,0 +1,100 @@
+package core.scope;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BeanPoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final Set<Object> destroyed = ConcurrentHashMap.newKeySet();
+
+    private BeanPool<Object> pool(int maxSize, long maxIdleMillis) {
+        return new BeanPool<>("test", maxSize, maxIdleMillis, () -> {
+            created.incrementAndGet();
+            return new Object();
+        }, destroyed::add);
+    }
+
+    @Test
+    void releasedInstanceIsReused() {
+        BeanPool<Object> pool = pool(4, 60_000);
+
+        Object first = pool.borrow();
+        pool.release(first);
+        Object second = pool.borrow();
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    void handleReturnsInstanceWhenClosed() {
+        BeanPool<Object> pool = pool(4, 60_000);
+
+        Object borrowed;
+        try (PooledBean<Object> handle = pool.borrowHandle()) {
+            borrowed = handle.get();
+            assertEquals(0, pool.getIdleCount());
+        }
+
+        assertEquals(1, pool.getIdleCount());
+        assertSame(borrowed, pool.borrow());
+    }
+
+    @Test
+    void instancesReturnedToAFullPoolAreDestroyed() {
+        BeanPool<Object> pool = pool(2, 60_000);
+        List<Object> borrowed = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            borrowed.add(pool.borrow());
+        }
+
+        borrowed.forEach(pool::release);
+
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(3, destroyed.size());
+    }
+
+    @Test
+    void clearDestroysInstancesReturnedByOtherThreads() throws InterruptedException {
+        BeanPool<Object> pool = pool(8, 60_000);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> pool.release(pool.borrow())));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+            thread.join();
+        }
+
+        pool.clear();
+
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(created.get(), destroyed.size());
+    }
+
+    @Test
+    void expiredInstancesAreEvictedInsteadOfReused() throws InterruptedException {
+        BeanPool<Object> pool = pool(4, 1);
+        Object stale = pool.borrow();
+        pool.release(stale);
+
+        Thread.sleep(20);
+        Object fresh = pool.borrow();
+
+        assertNotSame(stale, fresh);
+        assertEquals(Set.of(stale), destroyed);
+        assertEquals(1, pool.getEvictions());
+    }
+}
@@ -0,0 +1,115 @@
+package core.scope;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ConcurrentBeanScopeTest {
+
+    @Test
+    void concurrentLookupsCreateTheInstanceOnce() throws Exception {
+        ConcurrentBeanScope scope = new ConcurrentBeanScope(4);
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Object>> lookups = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                lookups.add(executor.submit(() -> {
+                    start.await();
+                    return scope.get("bean", () -> {
+                        creations.incrementAndGet();
+                        sleep(20);
+                        return new Object();
+                    });
+                }));
+            }
+            start.countDown();
+
+            Set<Object> instances = ConcurrentHashMap.newKeySet();
+            for (Future<Object> lookup : lookups) {
+                instances.add(lookup.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, creations.get());
+            assertEquals(1, instances.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void unrelatedBeansAreCreatedConcurrently() throws Exception {
+        ConcurrentBeanScope scope = new ConcurrentBeanScope(1);
+        // Both creations must be in progress at once to pass the barrier, even on a single stripe
+        CyclicBarrier bothCreating = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = executor.submit(() -> scope.get("first", () -> awaitOther(bothCreating)));
+            Future<Object> second = executor.submit(() -> scope.get("second", () -> awaitOther(bothCreating)));
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void creatorMayCreateOtherBeansOfTheSameScope() {
+        ConcurrentBeanScope scope = new ConcurrentBeanScope();
+        Object inner = new Object();
+
+        Object outer = scope.get("outer", () -> List.of(scope.get("inner", () -> inner)));
+
+        assertEquals(List.of(inner), outer);
+        assertSame(inner, scope.getIfPresent("inner"));
+    }
+
+    @Test
+    void destroyAllRunsEveryCallbackAndEmptiesTheScope() {
+        ConcurrentBeanScope scope = new ConcurrentBeanScope();
+        AtomicInteger destroyed = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            scope.get("bean" + i, Object::new);
+            scope.registerDestructionCallback("bean" + i, destroyed::incrementAndGet);
+        }
+
+        scope.destroyAll();
+
+        assertEquals(100, destroyed.get());
+        assertEquals(0, scope.size());
+        assertNull(scope.getIfPresent("bean0"));
+    }
+
+    private static Object awaitOther(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("Creations were serialized", e);
+        }
+        return new Object();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
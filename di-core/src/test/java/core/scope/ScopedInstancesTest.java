@@ -0,0 +1,118 @@
+package core.scope;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScopedInstancesTest {
+
+    @Test
+    void concurrentLookupsCreateTheInstanceOnce() throws Exception {
+        ScopedInstances scope = new ScopedInstances();
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> lookups = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                lookups.add(executor.submit(() -> {
+                    start.await();
+                    return scope.get("bean", () -> {
+                        creations.incrementAndGet();
+                        return new Object();
+                    });
+                }));
+            }
+            start.countDown();
+
+            Object first = lookups.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> lookup : lookups) {
+                assertSame(first, lookup.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, creations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * One thread creates a scoped bean that needs a singleton while another creates that
+     * singleton, which looks up a bean of the same scope. Holding a lock of the whole scope during
+     * creation would deadlock the two.
+     */
+    @Test
+    void creationDoesNotHoldALockThatCreationsInOtherScopesNeed() throws Exception {
+        ScopedInstances scope = new ScopedInstances();
+        ConcurrentBeanScope singletons = new ConcurrentBeanScope();
+        CountDownLatch scopedStarted = new CountDownLatch(1);
+        CountDownLatch singletonStarted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> scoped = executor.submit(() -> scope.get("scoped", () -> {
+                scopedStarted.countDown();
+                await(singletonStarted);
+                return singletons.get("singleton", Object::new);
+            }));
+            Future<Object> singleton = executor.submit(() -> singletons.get("singleton", () -> {
+                singletonStarted.countDown();
+                await(scopedStarted);
+                return scope.get("other", Object::new);
+            }));
+
+            assertSame(singleton.get(5, TimeUnit.SECONDS), scoped.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void endingTheScopeDestroysTheInstancesInReverseCreationOrder() {
+        ScopedInstances scope = new ScopedInstances();
+        List<String> destroyed = new ArrayList<>();
+        scope.get("outer", () -> {
+            scope.get("inner", () -> {
+                scope.registerDestructionCallback("inner", () -> destroyed.add("inner"));
+                return new Object();
+            });
+            scope.registerDestructionCallback("outer", () -> destroyed.add("outer"));
+            return new Object();
+        });
+        scope.get("removed", () -> {
+            scope.registerDestructionCallback("removed", () -> destroyed.add("removed"));
+            return new Object();
+        });
+        assertEquals(3, scope.size());
+        scope.remove("removed");
+
+        scope.end();
+        scope.end();
+
+        assertEquals(List.of("outer", "inner"), destroyed);
+        assertEquals(0, scope.size());
+        assertThrows(IllegalStateException.class, () -> scope.get("late", Object::new));
+        assertNull(scope.remove("outer"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the other creation");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package core.scope;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThreadScopeTest {
+
+    @Test
+    void eachThreadGetsItsOwnInstance() throws InterruptedException {
+        ThreadScope scope = new ThreadScope();
+        Object mine = scope.get("bean", Object::new);
+        AtomicReference<Object> other = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> other.set(scope.get("bean", Object::new)));
+        thread.start();
+        thread.join();
+
+        assertSame(mine, scope.get("bean", Object::new));
+        assertNotSame(mine, other.get());
+    }
+
+    @Test
+    void endDestroysTheInstancesOfTheCallingThread() {
+        ThreadScope scope = new ThreadScope();
+        AtomicInteger destroyed = new AtomicInteger();
+        Object first = scope.get("bean", Object::new);
+        scope.registerDestructionCallback("bean", destroyed::incrementAndGet);
+
+        scope.end();
+
+        assertEquals(1, destroyed.get());
+        assertNotSame(first, scope.get("bean", Object::new));
+    }
+
+    @Test
+    void scopesOfTerminatedThreadsAreEndedWithoutEndAll() throws InterruptedException {
+        ThreadScope scope = new ThreadScope();
+        AtomicInteger destroyed = new AtomicInteger();
+        int threads = 500;
+        for (int i = 0; i < threads; i++) {
+            Thread thread = new Thread(() -> {
+                scope.get("bean", Object::new);
+                scope.registerDestructionCallback("bean", destroyed::incrementAndGet);
+            });
+            thread.start();
+            thread.join();
+        }
+
+        assertTrue(destroyed.get() > threads / 2, () -> "Only " + destroyed.get() + " scopes were ended");
+
+        scope.endAll();
+        assertEquals(threads, destroyed.get());
+    }
+}
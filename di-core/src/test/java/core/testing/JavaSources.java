@@ -0,0 +1,103 @@
+package core.testing;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles Java sources written by a test against the test class path and the classes compiled
+ * to the same root before.
+ */
+public final class JavaSources {
+
+    private JavaSources() {
+    }
+
+    /**
+     * @param root    directory to write the sources to, below {@code src}, and the classes to,
+     *                below {@code classes}
+     * @param sources source code by binary class name
+     * @param options further compiler options, e.g. {@code -proc:none}
+     * @return the directory holding the compiled classes and any generated resources
+     * @throws IllegalStateException with the compiler's diagnostics if compilation fails
+     */
+    public static Path compile(Path root, Map<String, String> sources, List<String> options) {
+        try {
+            Path sourceDir = Files.createDirectories(root.resolve("src"));
+            Path classes = Files.createDirectories(root.resolve("classes"));
+            List<Path> files = new ArrayList<>();
+            for (Map.Entry<String, String> source : sources.entrySet()) {
+                Path file = sourceDir.resolve(source.getKey().replace('.', '/') + ".java");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, source.getValue());
+                files.add(file);
+            }
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+                List<String> allOptions = new ArrayList<>(List.of(
+                        "-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes,
+                        "-d", classes.toString()));
+                allOptions.addAll(options);
+                boolean compiled = compiler.getTask(null, fileManager, diagnostics, allOptions, null,
+                        fileManager.getJavaFileObjectsFromPaths(files)).call();
+                if (!compiled) {
+                    StringBuilder message = new StringBuilder("Compilation failed:");
+                    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                        message.append(System.lineSeparator()).append(diagnostic);
+                    }
+                    throw new IllegalStateException(message.toString());
+                }
+            }
+            return classes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Packs compiled classes and resources into a jar.
+     *
+     * @param classes          directory returned by {@link #compile}
+     * @param jar              jar file to write
+     * @param directoryEntries whether to write an entry for every directory, as the {@code jar}
+     *                         tool does, or for files only
+     * @return the jar file
+     */
+    public static Path jar(Path classes, Path jar, boolean directoryEntries) {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.skip(1).sorted().collect(Collectors.toList())) {
+                String name = classes.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                boolean isDirectory = Files.isDirectory(file);
+                if (isDirectory && !directoryEntries) {
+                    continue;
+                }
+                out.putNextEntry(new JarEntry(isDirectory ? name + "/" : name));
+                if (!isDirectory) {
+                    out.write(Files.readAllBytes(file));
+                }
+                out.closeEntry();
+            }
+            return jar;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package core.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that generates a reflection-free {@code GeneratedBeanFactory} for every
+ * {@code @Component} class, when enabled with the {@code -Adi.factories=true} compiler option.
+ *
+ * For a component {@code com.acme.Service} the processor writes {@code com.acme.Service$$DIFactory},
+ * which calls the constructor, assigns the {@code @Inject} fields and calls the {@code @PostConstruct}
+ * and {@code @PreDestroy} methods directly, and registers it in
+ * {@code META-INF/services/core.injection.GeneratedBeanFactory}.
+ *
+ * Because the factory lives in the bean's package, it can only reach non-private members. A class
+ * is skipped, with a compiler note, when its constructor, an injected field or a lifecycle method
+ * is private, when an injected field is final, when a field or constructor parameter is generic,
+ * {@code @Lazy} or qualified, or when a member declares checked exceptions. The container creates
+ * skipped classes reflectively.
+ *
+ * Like the bean index, the service file of a previous compilation is merged in rather than
+ * replaced, so an incremental compilation keeps the factories of the classes it did not compile.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(BeanFactoryProcessor.ENABLED_OPTION)
+public class BeanFactoryProcessor extends AbstractProcessor {
+
+    static final String ENABLED_OPTION = "di.factories";
+
+    static final String INJECT = "core.annotations.Inject";
+    static final String POST_CONSTRUCT = "core.annotations.PostConstruct";
+    static final String PRE_DESTROY = "core.annotations.PreDestroy";
+    static final String LAZY = "core.annotations.Lazy";
+    static final String QUALIFIER = "core.annotations.Qualifier";
+    static final String VALUE = "core.annotations.Value";
+
+    static final String FACTORY_SUFFIX = "$$DIFactory";
+    static final String SERVICE_LOCATION = "META-INF/services/core.injection.GeneratedBeanFactory";
+
+    private final Set<String> generatedFactories = new TreeSet<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(ENABLED_OPTION))) {
+            return false;
+        }
+
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        for (Element root : roundEnv.getRootElements()) {
+            BeanIndexProcessor.recordCompiledTypes(root, processingEnv.getElementUtils(), compiledTypes);
+        }
+        for (TypeElement annotation : annotations) {
+            if (!annotation.getQualifiedName().contentEquals(BeanIndexProcessor.COMPONENT)) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    generateFactory((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generateFactory(TypeElement beanType) {
+        BeanModel model = BeanModel.of(beanType);
+        if (model.skipReason != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "No factory generated for " + beanType + ": " + model.skipReason, beanType);
+            return;
+        }
+
+        String packageName = packageOf(beanType);
+        String beanBinaryName = processingEnv.getElementUtils().getBinaryName(beanType).toString();
+        String factorySimpleName = beanBinaryName.substring(beanBinaryName.lastIndexOf('.') + 1) + FACTORY_SUFFIX;
+        String factoryName = packageName.isEmpty() ? factorySimpleName : packageName + "." + factorySimpleName;
+        String bean = beanType.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        source.append("public final class ").append(factorySimpleName)
+                .append(" implements core.injection.GeneratedBeanFactory<").append(bean).append("> {\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Class<").append(bean).append("> beanType() {\n");
+        source.append("        return ").append(bean).append(".class;\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public ").append(bean).append(" instantiate(core.container.BeanFactory factory) {\n");
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : model.constructor.getParameters()) {
+            arguments.add(lookup(parameter));
+        }
+        source.append("        return new ").append(bean).append("(").append(String.join(", ", arguments)).append(");\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void injectFields(").append(bean).append(" bean, core.container.BeanFactory factory) {\n");
+        for (VariableElement field : model.fields) {
+            source.append("        bean.").append(field.getSimpleName()).append(" = ").append(lookup(field)).append(";\n");
+        }
+        source.append("    }\n\n");
+
+        appendCallbacks(source, "postConstruct", bean, model.postConstruct);
+        source.append("\n");
+        appendCallbacks(source, "preDestroy", bean, model.preDestroy);
+        source.append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(factoryName, beanType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+            generatedFactories.add(factoryName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate factory for " + beanType + ": " + e.getMessage(), beanType);
+        }
+    }
+
+    private static void appendCallbacks(StringBuilder source, String name, String bean, List<ExecutableElement> callbacks) {
+        source.append("    @Override\n");
+        source.append("    public void ").append(name).append("(").append(bean).append(" bean) {\n");
+        for (ExecutableElement callback : callbacks) {
+            source.append("        bean.").append(callback.getSimpleName()).append("();\n");
+        }
+        source.append("    }\n");
+    }
+
+    private String lookup(VariableElement dependency) {
+        String type = processingEnv.getTypeUtils().erasure(dependency.asType()).toString();
+        return "(" + type + ") factory.getBean(" + type + ".class)";
+    }
+
+    private String packageOf(TypeElement type) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    private void writeServiceFile() {
+        Set<String> merged = new TreeSet<>(generatedFactories);
+        boolean previous = mergePreviousServiceFile(merged);
+        if (merged.isEmpty() && !previous) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                for (String factory : merged) {
+                    writer.write(factory);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the factories listed by a previous compilation whose bean class was not compiled now
+     * and which still exist.
+     *
+     * @return whether a previous service file exists
+     */
+    private boolean mergePreviousServiceFile(Set<String> merged) {
+        FileObject previous;
+        try {
+            previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_LOCATION);
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+        try (BufferedReader reader = new BufferedReader(previous.openReader(true))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String factory = line.trim();
+                if (factory.isEmpty() || factory.startsWith("#") || !factory.endsWith(FACTORY_SUFFIX)) {
+                    continue;
+                }
+                String bean = factory.substring(0, factory.length() - FACTORY_SUFFIX.length());
+                if (!compiledTypes.contains(bean) && processingEnv.getElementUtils().getTypeElement(factory) != null) {
+                    merged.add(factory);
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false; // no previous service file
+        }
+    }
+
+    static boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The members of a component class a generated factory has to touch, or the reason why
+     * a factory cannot be generated for it.
+     */
+    private static final class BeanModel {
+        private ExecutableElement constructor;
+        private final List<VariableElement> fields = new ArrayList<>();
+        private final List<ExecutableElement> postConstruct = new ArrayList<>();
+        private final List<ExecutableElement> preDestroy = new ArrayList<>();
+        private String skipReason;
+
+        static BeanModel of(TypeElement beanType) {
+            BeanModel model = new BeanModel();
+
+            if (beanType.getModifiers().contains(Modifier.PRIVATE)
+                    || beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+                return model.skip("class is private or abstract");
+            }
+            if (beanType.getNestingKind() != NestingKind.TOP_LEVEL
+                    && !beanType.getModifiers().contains(Modifier.STATIC)) {
+                return model.skip("inner classes are not supported");
+            }
+            if (!beanType.getTypeParameters().isEmpty()) {
+                return model.skip("generic classes are not supported");
+            }
+
+            List<ExecutableElement> constructors = new ArrayList<>();
+            for (Element member : beanType.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.CONSTRUCTOR) {
+                    constructors.add((ExecutableElement) member);
+                }
+            }
+            ExecutableElement constructor = null;
+            for (ExecutableElement candidate : constructors) {
+                if (hasAnnotation(candidate, INJECT)) {
+                    constructor = candidate;
+                } else if (constructor == null && (constructors.size() == 1 || candidate.getParameters().isEmpty())) {
+                    constructor = candidate;
+                }
+            }
+            if (constructor == null) {
+                return model.skip("no @Inject or no-argument constructor");
+            }
+            String reason = checkAccessible(constructor);
+            if (reason != null) {
+                return model.skip("constructor " + reason);
+            }
+            for (VariableElement parameter : constructor.getParameters()) {
+                reason = checkInjectable(parameter);
+                if (reason != null) {
+                    return model.skip("constructor parameter " + parameter.getSimpleName() + " " + reason);
+                }
+            }
+            model.constructor = constructor;
+
+            for (Element member : beanType.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.FIELD && hasAnnotation(member, VALUE)) {
+                    return model.skip("field " + member.getSimpleName() + " is a configuration value");
+                }
+                if (member.getKind() == ElementKind.FIELD && hasAnnotation(member, INJECT)
+                        && !member.getModifiers().contains(Modifier.STATIC)) {
+                    VariableElement field = (VariableElement) member;
+                    if (member.getModifiers().contains(Modifier.PRIVATE) || member.getModifiers().contains(Modifier.FINAL)) {
+                        return model.skip("field " + field.getSimpleName() + " is private or final");
+                    }
+                    reason = checkInjectable(field);
+                    if (reason != null) {
+                        return model.skip("field " + field.getSimpleName() + " " + reason);
+                    }
+                    model.fields.add(field);
+                } else if (member.getKind() == ElementKind.METHOD) {
+                    ExecutableElement method = (ExecutableElement) member;
+                    boolean isPostConstruct = hasAnnotation(method, POST_CONSTRUCT);
+                    boolean isPreDestroy = hasAnnotation(method, PRE_DESTROY);
+                    if (!isPostConstruct && !isPreDestroy) {
+                        continue;
+                    }
+                    reason = checkAccessible(method);
+                    if (reason == null && !method.getParameters().isEmpty()) {
+                        reason = "has parameters";
+                    }
+                    // Asynchronous initialization needs the container's executor and futures
+                    if (reason == null && isPostConstruct && isAsync(method)) {
+                        reason = "initializes asynchronously";
+                    }
+                    if (reason != null) {
+                        return model.skip("method " + method.getSimpleName() + " " + reason);
+                    }
+                    if (isPostConstruct) {
+                        model.postConstruct.add(method);
+                    }
+                    if (isPreDestroy) {
+                        model.preDestroy.add(method);
+                    }
+                }
+            }
+            return model;
+        }
+
+        /**
+         * Generated code resolves dependencies with a plain {@code getBean(Class)} call, which only
+         * covers unqualified, eagerly injected, non-generic types.
+         */
+        private static String checkInjectable(VariableElement dependency) {
+            if (hasAnnotation(dependency, LAZY)) {
+                return "is injected lazily";
+            }
+            if (hasAnnotation(dependency, QUALIFIER)) {
+                return "is qualified";
+            }
+            if (hasAnnotation(dependency, VALUE)) {
+                return "is a configuration value";
+            }
+            if (dependency.asType().getKind() != TypeKind.DECLARED
+                    || !((DeclaredType) dependency.asType()).getTypeArguments().isEmpty()) {
+                return "has an unsupported type";
+            }
+            return null;
+        }
+
+        private static boolean isAsync(ExecutableElement method) {
+            if (method.getReturnType().getKind() != TypeKind.VOID) {
+                return true;
+            }
+            for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+                if (type.getQualifiedName().contentEquals(POST_CONSTRUCT)) {
+                    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                            : annotation.getElementValues().entrySet()) {
+                        if (value.getKey().getSimpleName().contentEquals("async")
+                                && Boolean.TRUE.equals(value.getValue().getValue())) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static String checkAccessible(ExecutableElement executable) {
+            if (executable.getModifiers().contains(Modifier.PRIVATE)) {
+                return "is private";
+            }
+            if (!executable.getThrownTypes().isEmpty()) {
+                return "declares checked exceptions";
+            }
+            return null;
+        }
+
+        private BeanModel skip(String reason) {
+            this.skipReason = reason;
+            return this;
+        }
+    }
+}
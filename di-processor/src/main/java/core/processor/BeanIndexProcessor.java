@@ -0,0 +1,213 @@
+package core.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that records the beans of a compilation unit at build time, so the
+ * container does not have to scan the classpath at startup.
+ *
+ * Every class annotated with {@code @Component} or {@code @Configuration} and every
+ * {@code @Bean} method declared on a configuration class is written to the
+ * {@code META-INF/di/bean.index} resource. Each line holds one entry:
+ *
+ * - {@code component <binary class name>}
+ * - {@code configuration <binary class name>}
+ * - {@code bean <binary class name> <method name> [<parameter type> ...]}
+ *
+ * Parameter types are written in the form accepted by {@link Class#forName(String)}, so the
+ * container can look the method up directly with {@code getDeclaredMethod}.
+ *
+ * An incremental compilation only passes the changed sources to the processor, so the index of
+ * the previous compilation is merged in rather than replaced: its entries are kept unless their
+ * class was compiled again, in which case the new entries replace them, or no longer exists.
+ * The processor therefore runs on every compilation, even one without any bean annotation, and
+ * never claims the annotations it sees.
+ *
+ * Annotations are matched by name; the processor has no dependency on the framework classes.
+ */
+@SupportedAnnotationTypes("*")
+public class BeanIndexProcessor extends AbstractProcessor {
+
+    static final String COMPONENT = "core.annotations.Component";
+    static final String CONFIGURATION = "core.annotations.Configuration";
+    static final String BEAN = "core.annotations.Bean";
+
+    static final String INDEX_LOCATION = "META-INF/di/bean.index";
+
+    private final Set<String> entries = new TreeSet<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (Element root : roundEnv.getRootElements()) {
+            recordCompiledTypes(root, processingEnv.getElementUtils(), compiledTypes);
+        }
+        for (TypeElement annotation : annotations) {
+            Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(annotation);
+            switch (annotation.getQualifiedName().toString()) {
+                case COMPONENT -> elements.forEach(element -> recordType("component", element));
+                case CONFIGURATION -> elements.forEach(element -> recordType("configuration", element));
+                case BEAN -> elements.forEach(this::recordBeanMethod);
+                default -> { }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the binary names of a type compiled in this round and of all its member types.
+     */
+    static void recordCompiledTypes(Element element, Elements elements, Set<String> compiledTypes) {
+        if (element instanceof TypeElement) {
+            compiledTypes.add(elements.getBinaryName((TypeElement) element).toString());
+            for (Element member : element.getEnclosedElements()) {
+                recordCompiledTypes(member, elements, compiledTypes);
+            }
+        }
+    }
+
+    private void recordType(String kind, Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Only classes can be registered as beans, skipping " + element, element);
+            return;
+        }
+        entries.add(kind + " " + binaryName((TypeElement) element));
+    }
+
+    private void recordBeanMethod(Element element) {
+        ExecutableElement method = (ExecutableElement) element;
+        TypeElement owner = (TypeElement) method.getEnclosingElement();
+
+        List<String> parts = new ArrayList<>();
+        parts.add("bean");
+        parts.add(binaryName(owner));
+        parts.add(method.getSimpleName().toString());
+        for (VariableElement parameter : method.getParameters()) {
+            parts.add(className(parameter.asType()));
+        }
+        entries.add(String.join(" ", parts));
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * Renders an erased type the way {@link Class#getName()} does.
+     */
+    private String className(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case DECLARED:
+                return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) erased).getComponentType());
+            default:
+                return erased.toString();
+        }
+    }
+
+    private String descriptor(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case BOOLEAN: return "Z";
+            case BYTE: return "B";
+            case CHAR: return "C";
+            case SHORT: return "S";
+            case INT: return "I";
+            case LONG: return "J";
+            case FLOAT: return "F";
+            case DOUBLE: return "D";
+            case ARRAY: return "[" + descriptor(((ArrayType) erased).getComponentType());
+            default: return "L" + className(erased) + ";";
+        }
+    }
+
+    private void writeIndex() {
+        Set<String> merged = new TreeSet<>(entries);
+        boolean previous = mergePreviousIndex(merged);
+        if (merged.isEmpty() && !previous) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + getClass().getName() + ", do not edit\n");
+                for (String entry : merged) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the entries of the index left in the output directory by a previous compilation whose
+     * class was neither compiled now nor deleted since.
+     *
+     * @return whether a previous index exists
+     */
+    private boolean mergePreviousIndex(Set<String> merged) {
+        FileObject previous;
+        try {
+            previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+        try (BufferedReader reader = new BufferedReader(previous.openReader(true))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length < 2 || line.startsWith("#")) {
+                    continue;
+                }
+                String owner = parts[1];
+                if (!compiledTypes.contains(owner)
+                        && processingEnv.getElementUtils().getTypeElement(owner.replace('$', '.')) != null) {
+                    merged.add(line.trim());
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false; // no previous index
+        }
+    }
+}
@@ -1,9 +0,0 @@
-package app;
-
-import core.annotations.Component;
-import core.annotations.Qualifier;
-
-@Component
-@Qualifier("user")
-public class User {
-}